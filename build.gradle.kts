@@ -22,6 +22,7 @@ val mixinVersion: String by project
 val pluginSpiVersion: String by project
 val guavaVersion: String by project
 val junitVersion: String by project
+val jmhVersion: String by project
 
 minecraft {
     version(minecraftVersion)
@@ -184,6 +185,25 @@ val mixins by sourceSets.registering {
     }
 }
 
+val jmh by sourceSets.registering {
+    compileClasspath += main.output + main.compileClasspath
+    runtimeClasspath += main.output + main.runtimeClasspath
+}
+
+tasks.register("jmh", JavaExec::class) {
+    group = "verification"
+    description = "Runs the JMH benchmarks and writes the results as JSON to build/reports/jmh"
+    val results = project.layout.buildDirectory.file("reports/jmh/results.json")
+    classpath = jmh.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    // Allows running a subset, e.g. -PjmhIncludes=SchedulerTickBenchmark
+    (project.findProperty("jmhIncludes") as String?)?.let { args(it) }
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+}
+
 dependencies {
     // api
     api(project(":SpongeAPI"))
@@ -254,6 +274,10 @@ dependencies {
     // Tests
     testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$junitVersion")
+
+    // Benchmarks
+    add(jmh.get().implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(jmh.get().annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 /*val extraSrgs = file("extra.srgs")
 mixin {
@@ -24,13 +24,19 @@
  */
 package org.spongepowered.common.accessor.server.players;
 
+import com.google.gson.JsonObject;
 import net.minecraft.server.players.StoredUserEntry;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(StoredUserEntry.class)
 public interface StoredUserEntryAccessor<T> {
 
     @Accessor("user") T accessor$user();
 
+    @Invoker("hasExpired") boolean invoker$hasExpired();
+
+    @Invoker("serialize") void invoker$serialize(final JsonObject json);
+
 }
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.accessor.server.players;
 
+import com.google.gson.JsonObject;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
@@ -48,4 +49,6 @@
 
     @Invoker("removeExpired") void invoker$removeExpired();
 
+    @Invoker("createEntry") StoredUserEntry<K> invoker$createEntry(final JsonObject json);
+
 }
@@ -33,4 +33,6 @@ public interface AbstractArrowAccessor {
 
     @Accessor("knockback") int accessor$knockback();
 
+    @Accessor("inGround") boolean accessor$inGround();
+
 }
@@ -0,0 +1,146 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common;
+
+import co.aikar.timings.TimingsFactory;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Server;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.registry.SpongeRegistryType;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A {@link Game} with a running {@link Server}, for benchmarks of code that
+ * asks whether it runs on the main thread, creates data containers or
+ * resolves resource keys. Only the methods used by those code paths are
+ * answered, anything else throws.
+ */
+public final class BenchmarkGame {
+
+    /**
+     * Installs the game into {@link Sponge}.
+     *
+     * @param mainThread The thread the server runs on, or null if no thread
+     *     is the main thread
+     */
+    public static void install(final @Nullable Thread mainThread) {
+        final Map<String, Function<Object[], Object>> serverAnswers = new HashMap<>();
+        serverAnswers.put("onMainThread", args -> Thread.currentThread() == mainThread);
+        final Server server = BenchmarkGame.stub(Server.class, serverAnswers);
+
+        final Map<String, Function<Object[], Object>> timingsAnswers = new HashMap<>();
+        timingsAnswers.put("isTimingsEnabled", args -> false);
+
+        final Map<String, Function<Object[], Object>> resourceKeyAnswers = new HashMap<>();
+        resourceKeyAnswers.put("of", args -> BenchmarkGame.resourceKey(
+                args[0] instanceof String ? (String) args[0] : ((PluginContainer) args[0]).getMetadata().getId(),
+                (String) args[1]));
+        resourceKeyAnswers.put("resolve", args -> {
+            final String formatted = (String) args[0];
+            final int separator = formatted.indexOf(':');
+            return separator < 0
+                    ? BenchmarkGame.resourceKey("minecraft", formatted)
+                    : BenchmarkGame.resourceKey(formatted.substring(0, separator), formatted.substring(separator + 1));
+        });
+
+        final Map<Class<?>, Object> factories = new HashMap<>();
+        factories.put(TimingsFactory.class, BenchmarkGame.stub(TimingsFactory.class, timingsAnswers));
+        factories.put(ResourceKey.Factory.class, BenchmarkGame.stub(ResourceKey.Factory.class, resourceKeyAnswers));
+        factories.put(RegistryType.Factory.class, new SpongeRegistryType.FactoryImpl());
+        final Map<String, Function<Object[], Object>> factoryAnswers = new HashMap<>();
+        factoryAnswers.put("provide", args -> {
+            final Object factory = factories.get(args[0]);
+            if (factory == null) {
+                throw new UnsupportedOperationException("No " + args[0] + " in benchmarks");
+            }
+            return factory;
+        });
+        final FactoryProvider factoryProvider = BenchmarkGame.stub(FactoryProvider.class, factoryAnswers);
+
+        final SpongeDataManager[] dataManager = new SpongeDataManager[1];
+        final Map<String, Function<Object[], Object>> gameAnswers = new HashMap<>();
+        gameAnswers.put("isServerAvailable", args -> true);
+        gameAnswers.put("getServer", args -> server);
+        gameAnswers.put("isClientAvailable", args -> false);
+        gameAnswers.put("getFactoryProvider", args -> factoryProvider);
+        gameAnswers.put("getDataManager", args -> dataManager[0]);
+        final Game game = BenchmarkGame.stub(Game.class, gameAnswers);
+
+        final Injector injector = Guice.createInjector(binder -> {
+            binder.bind(Game.class).toInstance(game);
+            binder.requestStaticInjection(Sponge.class);
+        });
+        dataManager[0] = injector.getInstance(SpongeDataManager.class);
+    }
+
+    private static ResourceKey resourceKey(final String namespace, final String value) {
+        final String formatted = namespace + ":" + value;
+        final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getNamespace", args -> namespace);
+        answers.put("getValue", args -> value);
+        answers.put("getFormatted", args -> formatted);
+        answers.put("asString", args -> formatted);
+        answers.put("toString", args -> formatted);
+        answers.put("hashCode", args -> formatted.hashCode());
+        answers.put("equals", args -> args[0] instanceof ResourceKey && formatted.equals(((ResourceKey) args[0]).getFormatted()));
+        answers.put("compareTo", args -> formatted.compareTo(((ResourceKey) args[0]).getFormatted()));
+        return BenchmarkGame.stub(ResourceKey.class, answers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type, final Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            final Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Benchmark" + type.getSimpleName();
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "#" + method.getName() + " is not available in benchmarks");
+            }
+        });
+    }
+
+    private BenchmarkGame() {
+    }
+}
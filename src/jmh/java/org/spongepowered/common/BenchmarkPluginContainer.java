@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.metadata.PluginMetadata;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * A plugin without metadata, used as the owner of benchmarked listeners
+ * and tasks.
+ */
+public final class BenchmarkPluginContainer implements PluginContainer {
+
+    private final PluginMetadata metadata;
+    private final Logger logger;
+
+    public BenchmarkPluginContainer(final String id) {
+        this.metadata = PluginMetadata.builder()
+                .setLoader("java_plain")
+                .setId(id)
+                .setName(id)
+                .setVersion("1.0.0")
+                .setMainClass(BenchmarkPluginContainer.class.getName())
+                .build();
+        this.logger = LogManager.getLogger(id);
+    }
+
+    @Override
+    public PluginMetadata getMetadata() {
+        return this.metadata;
+    }
+
+    @Override
+    public Path getPath() {
+        return Paths.get(".");
+    }
+
+    @Override
+    public Logger getLogger() {
+        return this.logger;
+    }
+
+    @Override
+    public Object getInstance() {
+        return this;
+    }
+
+    @Override
+    public Optional<URL> locateResource(final URL relative) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.common.BenchmarkGame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures getting and setting the values of a {@link MemoryDataContainer}
+ * through paths of a varying depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoryDataViewBenchmark {
+
+    private static final int VALUES = 16;
+
+    @Param({"1", "4"})
+    public int depth;
+
+    private DataContainer container;
+    private DataQuery[] queries;
+
+    @Setup
+    public void setup() {
+        // Values are checked against the registries and translators of the data manager
+        BenchmarkGame.install(null);
+        this.container = new MemoryDataContainer();
+        this.queries = new DataQuery[MemoryDataViewBenchmark.VALUES];
+        for (int i = 0; i < this.queries.length; i++) {
+            final String[] parts = new String[this.depth];
+            for (int j = 0; j < parts.length - 1; j++) {
+                parts[j] = "view" + j;
+            }
+            parts[parts.length - 1] = "value" + i;
+            this.queries[i] = DataQuery.of(parts);
+            this.container.set(this.queries[i], i);
+        }
+    }
+
+    @Benchmark
+    public void get(final Blackhole blackhole) {
+        for (final DataQuery query : this.queries) {
+            blackhole.consume(this.container.get(query));
+        }
+    }
+
+    @Benchmark
+    public void getInt(final Blackhole blackhole) {
+        for (final DataQuery query : this.queries) {
+            blackhole.consume(this.container.getInt(query));
+        }
+    }
+
+    @Benchmark
+    public DataContainer set() {
+        for (int i = 0; i < this.queries.length; i++) {
+            this.container.set(this.queries[i], i);
+        }
+        return this.container;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.BenchmarkGame;
+import org.spongepowered.common.data.MemoryDataContainer;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures translating a {@link DataContainer} to a {@link CompoundTag} and
+ * back through the {@link NBTTranslator}, for a varying amount of entries of
+ * mixed types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NBTTranslatorBenchmark {
+
+    @Param({"8", "64"})
+    public int entries;
+
+    private DataContainer container;
+    private CompoundTag compound;
+
+    @Setup
+    public void setup() {
+        // Translating to a container creates it through the data manager
+        BenchmarkGame.install(null);
+        this.container = new MemoryDataContainer();
+        for (int i = 0; i < this.entries; i++) {
+            final DataQuery query = DataQuery.of("entry" + i);
+            switch (i % 5) {
+                case 0:
+                    this.container.set(query, i);
+                    break;
+                case 1:
+                    this.container.set(query, "value" + i);
+                    break;
+                case 2:
+                    this.container.set(query, i * 0.5D);
+                    break;
+                case 3:
+                    this.container.set(query, Arrays.asList(i, i + 1, i + 2));
+                    break;
+                default:
+                    final DataView view = this.container.createView(query);
+                    view.set(DataQuery.of("id"), i);
+                    view.set(DataQuery.of("enabled"), (i & 1) == 0);
+                    break;
+            }
+        }
+        this.compound = NBTTranslator.INSTANCE.translate(this.container);
+    }
+
+    @Benchmark
+    public CompoundTag toCompound() {
+        return NBTTranslator.INSTANCE.translate(this.container);
+    }
+
+    @Benchmark
+    public DataContainer fromCompound() {
+        return NBTTranslator.INSTANCE.translate(this.compound);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.provider;
+
+import io.leangen.geantyref.TypeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.value.Value;
+import org.spongepowered.common.BenchmarkGame;
+import org.spongepowered.common.data.key.SpongeKey;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving the {@link org.spongepowered.api.data.DataProvider}s of
+ * a data holder type from the {@link DataProviderRegistry}, directly and
+ * through its {@link DataProviderLookup}, once the caches are warm. Half of
+ * the keys have a provider for an unrelated holder type as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataProviderRegistryBenchmark {
+
+    @Param({"16", "256"})
+    public int keys;
+
+    private DataProviderRegistry registry;
+    private SpongeKey<Value<Integer>, Integer>[] lookedUp;
+    private DataProviderLookup lookup;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        // Resource keys are created through the factory provider
+        BenchmarkGame.install(null);
+        this.registry = new DataProviderRegistry();
+        this.lookedUp = new SpongeKey[this.keys];
+        for (int i = 0; i < this.keys; i++) {
+            final SpongeKey<Value<Integer>, Integer> key = new SpongeKey<>(ResourceKey.sponge("benchmark_" + i),
+                    TypeFactory.parameterizedClass(Value.class, Integer.class), Integer.class, Comparator.naturalOrder(),
+                    (a, b) -> false, () -> 0);
+            this.registry.register(new ValueProvider<>(key, Holder.class));
+            if ((i & 1) == 0) {
+                this.registry.register(new ValueProvider<>(key, OtherHolder.class));
+            }
+            this.lookedUp[i] = key;
+        }
+        this.lookup = this.registry.getProviderLookup(SubHolder.class);
+        for (final SpongeKey<Value<Integer>, Integer> key : this.lookedUp) {
+            this.registry.getProvider(key, SubHolder.class);
+        }
+    }
+
+    @Benchmark
+    public void getProvider(final Blackhole blackhole) {
+        for (final SpongeKey<Value<Integer>, Integer> key : this.lookedUp) {
+            blackhole.consume(this.registry.getProvider(key, SubHolder.class));
+        }
+    }
+
+    @Benchmark
+    public void getProviderFromLookup(final Blackhole blackhole) {
+        final DataProviderLookup lookup = this.registry.getProviderLookup(SubHolder.class);
+        for (final SpongeKey<Value<Integer>, Integer> key : this.lookedUp) {
+            blackhole.consume(lookup.getProvider(key));
+        }
+    }
+
+    @Benchmark
+    public void getProviderFromHeldLookup(final Blackhole blackhole) {
+        for (final SpongeKey<Value<Integer>, Integer> key : this.lookedUp) {
+            blackhole.consume(this.lookup.getProvider(key));
+        }
+    }
+
+    static class Holder {
+    }
+
+    static final class SubHolder extends Holder {
+    }
+
+    static final class OtherHolder {
+    }
+
+    static final class ValueProvider<H> extends GenericMutableDataProvider<H, Integer> {
+
+        ValueProvider(final SpongeKey<Value<Integer>, Integer> key, final Class<H> holderType) {
+            super(key, holderType);
+        }
+
+        @Override
+        protected Optional<Integer> getFrom(final H dataHolder) {
+            return Optional.of(0);
+        }
+    }
+}
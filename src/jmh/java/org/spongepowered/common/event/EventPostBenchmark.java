@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.common.BenchmarkGame;
+import org.spongepowered.common.BenchmarkPluginContainer;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link SpongeEventManager#post(Event)} for a
+ * single event type with a varying amount of listeners, grouped into plugins
+ * of a given size, posted on and off the main thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPostBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int listeners;
+
+    // Consecutive listeners of one plugin share a cause frame and phase context
+    @Param({"1", "10"})
+    public int listenersPerPlugin;
+
+    // Only posts on the main thread push cause frames and enter the listener phase
+    @Param({"true", "false"})
+    public boolean mainThread;
+
+    private SpongeEventManager eventManager;
+    private TestEvent event;
+
+    @Setup
+    public void setup() {
+        // JMH runs the trial setup on the thread that runs the benchmark
+        BenchmarkGame.install(this.mainThread ? Thread.currentThread() : null);
+        this.eventManager = new SpongeEventManager(LogManager.getLogger("benchmark"));
+        final PluginContainer[] plugins = new PluginContainer[(this.listeners + this.listenersPerPlugin - 1) / this.listenersPerPlugin];
+        for (int i = 0; i < plugins.length; i++) {
+            plugins[i] = new BenchmarkPluginContainer("benchmark_" + i);
+        }
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListener(plugins[i / this.listenersPerPlugin], TestEvent.class, event -> event.counter++);
+        }
+        this.event = new TestEvent(Cause.of(EventContext.empty(), this));
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.event);
+    }
+
+    public static final class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        int counter;
+
+        TestEvent(final Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setCancelled(final boolean cancel) {
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.common.BenchmarkGame;
+import org.spongepowered.common.BenchmarkPluginContainer;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.PluginEnvironment;
+import org.spongepowered.plugin.PluginKeys;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures switching into and completing nested plugin listener phases on a
+ * {@link PhaseTracker}, the way every event listener is wrapped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseTrackerBenchmark {
+
+    private static boolean configsInitialized;
+
+    @Param({"1", "4"})
+    public int depth;
+
+    private PhaseTracker tracker;
+    private PluginContainer plugin;
+
+    @Setup
+    public void setup() throws IOException {
+        // Completing a phase reads the phase tracker settings of the common config
+        if (!PhaseTrackerBenchmark.configsInitialized) {
+            final Path directory = Files.createTempDirectory("sponge-benchmark");
+            final PluginEnvironment environment = new PluginEnvironment();
+            environment.getBlackboard().getOrCreate(PluginKeys.BASE_DIRECTORY, () -> directory);
+            SpongeConfigs.initialize(environment);
+            PhaseTrackerBenchmark.configsInitialized = true;
+        }
+        BenchmarkGame.install(null);
+        // JMH runs the trial setup on the thread that runs the benchmark
+        this.tracker = PhaseTracker.getInstance();
+        this.plugin = new BenchmarkPluginContainer("benchmark");
+    }
+
+    @Benchmark
+    public PhaseTracker switchPhases() {
+        this.enter(this.depth);
+        return this.tracker;
+    }
+
+    private void enter(final int remaining) {
+        try (final PhaseContext<?> context = PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(this.tracker).source(this.plugin)) {
+            context.buildAndSwitch();
+            if (remaining > 1) {
+                this.enter(remaining - 1);
+            }
+        }
+    }
+}
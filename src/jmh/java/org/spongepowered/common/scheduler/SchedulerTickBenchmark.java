@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single scheduler tick while a large amount of
+ * tasks is pending that are not yet due, compared against a scan over
+ * every pending task as the scheduler used to perform.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerTickBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tasks;
+
+    private SyncScheduler scheduler;
+    private final Map<UUID, SpongeScheduledTask> scanMap = new ConcurrentHashMap<>();
+    private long now;
+
+    @Setup
+    public void setup() {
+        this.scheduler = new SyncScheduler("B") {};
+        this.scanMap.clear();
+        for (int i = 0; i < this.tasks; i++) {
+            // Spread the delays far into the future so no task becomes due while measuring
+            final long delay = (1_000_000L + i) * SpongeScheduler.TICK_DURATION_NS;
+            final SpongeTask task = new SpongeTask(t -> {}, "benchmark-" + i, null, null, delay, delay, true);
+            final SpongeScheduledTask scheduledTask = this.scheduler.submit(task);
+            this.scanMap.put(scheduledTask.getUniqueId(), scheduledTask);
+        }
+        // Move all submitted tasks into the schedule
+        this.scheduler.tick();
+    }
+
+    @Benchmark
+    public void queuedTick() {
+        this.scheduler.tick();
+    }
+
+    @Benchmark
+    public void scanTick(final Blackhole blackhole) {
+        final long now = ++this.now * SpongeScheduler.TICK_DURATION_NS;
+        for (final SpongeScheduledTask task : this.scanMap.values()) {
+            final long threshold = task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING ? task.task.delay : task.task.interval;
+            blackhole.consume(threshold <= now - task.getTimestamp());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Measures streaming the block states of a single chunk through
+ * {@link VolumeStreamUtils#getBlockStatesForSections(Vector3i, Vector3i)},
+ * compared to visiting them through
+ * {@link VolumeStreamUtils#visitSections(ChunkAccess, Vector3i, Vector3i, VolumeStreamUtils.SectionReader, SectionVolumeStream.PositionVisitor)},
+ * for a varying amount of populated sections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VolumeStreamBenchmark {
+
+    @Param({"16", "64", "256"})
+    public int height;
+
+    private ChunkAccess chunk;
+    private Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> blockStates;
+    private Vector3i max;
+
+    @Setup
+    public void setup() {
+        Bootstrap.bootStrap();
+        this.chunk = new ProtoChunk(new ChunkPos(0, 0), UpgradeData.EMPTY);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int y = 0; y < this.height; y++) {
+            final BlockState state = (y & 1) == 0 ? Blocks.STONE.defaultBlockState() : Blocks.DIRT.defaultBlockState();
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    this.chunk.setBlockState(pos.set(x, y, z), state, false);
+                }
+            }
+        }
+        this.max = new Vector3i(15, this.height - 1, 15);
+        this.blockStates = VolumeStreamUtils.getBlockStatesForSections(Vector3i.ZERO, this.max);
+    }
+
+    @Benchmark
+    public void streamBlockStates(final Blackhole blackhole) {
+        this.blockStates.apply(this.chunk).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long countBlockStates() {
+        return this.blockStates.apply(this.chunk).count();
+    }
+
+    @Benchmark
+    public void visitBlockStates(final Blackhole blackhole) {
+        VolumeStreamUtils.visitSections(this.chunk, Vector3i.ZERO, this.max, VolumeStreamUtils.sectionBlockStateReader(), (x, y, z, state) -> {
+            blackhole.consume(state);
+            return true;
+        });
+    }
+}
@@ -45,9 +45,12 @@ public List<String> getMixinConfigs() {
             "mixins.sponge.api.json",
             "mixins.sponge.concurrent.json",
             "mixins.sponge.core.json",
+            "mixins.sponge.entityactivation.json",
             "mixins.sponge.exploit.json",
             "mixins.sponge.inventory.json",
             "mixins.sponge.movementcheck.json",
+            "mixins.sponge.optimization.json",
+            "mixins.sponge.tileentityactivation.json",
             "mixins.sponge.tracker.json"
         );
     }
@@ -0,0 +1,111 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.adventure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.kyori.adventure.text.renderer.ComponentRenderer;
+import net.minecraft.network.chat.Component;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Holds the rendered and serialized form of components recently written to
+ * the network, per locale.
+ *
+ * <p>Messages sent through the API are wrapped in a new vanilla component
+ * for every player, so entries are keyed on the immutable adventure
+ * component they wrap rather than on the vanilla component. That way the
+ * same message sent to many players is rendered and serialized once per
+ * locale. Native vanilla components are mutable and are never cached.</p>
+ */
+public final class LocalizedComponentCache {
+
+    private static final Cache<Key, byte[]> ENCODED = Caffeine.newBuilder()
+            .maximumSize(512)
+            // Translations may be registered at any time
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .build();
+
+    /**
+     * Gets the UTF-8 encoded json of the given component rendered for the
+     * given locale, as written by {@code FriendlyByteBuf#writeComponent}.
+     *
+     * @param component The component
+     * @param locale The locale
+     * @return The encoded component, must not be modified
+     */
+    public static byte[] encode(final Component component, final Locale locale) {
+        if (!(component instanceof AdventureTextComponent)) {
+            return LocalizedComponentCache.render(component, locale);
+        }
+        final AdventureTextComponent adventure = (AdventureTextComponent) component;
+        return LocalizedComponentCache.ENCODED.get(new Key(adventure.wrapped(), adventure.renderer(), locale),
+                k -> LocalizedComponentCache.render(component, locale));
+    }
+
+    private static byte[] render(final Component component, final Locale locale) {
+        return Component.Serializer.toJson(NativeComponentRenderer.apply(component, locale)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class Key {
+
+        private final net.kyori.adventure.text.Component component;
+        private final @Nullable ComponentRenderer<Locale> renderer;
+        private final Locale locale;
+        private final int hash;
+
+        Key(final net.kyori.adventure.text.Component component, final @Nullable ComponentRenderer<Locale> renderer, final Locale locale) {
+            this.component = component;
+            this.renderer = renderer;
+            this.locale = locale;
+            this.hash = Objects.hash(component, System.identityHashCode(renderer), locale);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return this.renderer == that.renderer && this.locale.equals(that.locale) && this.component.equals(that.component);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    private LocalizedComponentCache() {
+    }
+}
@@ -39,6 +39,7 @@
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.storage.ServerWorldProperties;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
@@ -312,7 +313,13 @@ public SpongeBlockSnapshotBuilder flag(final BlockChangeFlag flag) {
     public SpongeBlockSnapshotBuilder tileEntity(final BlockEntity added) {
         this.compound = null;
         final CompoundTag tag = new CompoundTag();
-        added.save(tag);
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            added.save(tag);
+        } catch (final Throwable t) {
+            SpongeCommon.getLogger().debug("Could not save block entity {} at {} for a snapshot", added.getType(), added.getBlockPos(), t);
+            return this;
+        }
         this.compound = tag;
         return this;
     }
@@ -55,7 +55,7 @@ public interface SpongeDataHolderBridge {
         manipulator.set(key, value);
         builder.success(manipulator.getValue(key).get().asImmutable());
 
-        DataUtil.syncDataToTag(this);
+        DataUtil.markDataChanged(this);
 
         return builder.result(DataTransactionResult.Type.SUCCESS).build();
     }
@@ -66,7 +66,7 @@ public interface SpongeDataHolderBridge {
         if (value.isPresent()) {
             manipulator.remove(key);
         }
-        DataUtil.syncDataToTag(this);
+        DataUtil.markDataChanged(this);
         return value.map(Value::asImmutable).map(DataTransactionResult::successRemove)
                 .orElseGet(DataTransactionResult::successNoData);
     }
@@ -76,4 +76,17 @@ public interface SpongeDataHolderBridge {
     Multimap<DataQuery, DataView> bridge$getFailedData();
 
     void bridge$addFailedData(DataQuery nameSpace, DataView keyedData);
+
+    /**
+     * Gets whether this holder only serializes its custom data when it is
+     * saved, rather than on every mutation. Such holders are marked dirty
+     * instead, see {@link DataUtil#markDataChanged(SpongeDataHolderBridge)}.
+     *
+     * @return True if serialization of custom data is deferred
+     */
+    boolean bridge$defersDataSync();
+
+    boolean bridge$isDataDirty();
+
+    void bridge$setDataDirty(boolean dirty);
 }
@@ -28,9 +28,9 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.storage.ChunkPlayerTracker;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import net.minecraft.core.BlockPos;
@@ -40,10 +40,6 @@
 
 public interface ChunkBridge {
 
-    Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions();
-
     Optional<User> bridge$getBlockCreator(BlockPos pos);
 
     Optional<UUID> bridge$getBlockCreatorUUID(BlockPos pos);
@@ -59,9 +55,9 @@ public interface ChunkBridge {
 
     void bridge$addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void bridge$setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
+    @Nullable ChunkPlayerTracker bridge$getPlayerTracker();
 
-    void bridge$setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void bridge$setPlayerTracker(@Nullable ChunkPlayerTracker tracker);
 
     void bridge$setNeighbor(Direction direction, LevelChunk neighbor);
 
@@ -60,4 +60,14 @@ public interface TrackedChunkBridge {
      */
     void bridge$removeTileEntity(BlockEntity removed);
 
+    /**
+     * Toggles whether direct writes through {@link net.minecraft.world.level.chunk.LevelChunk#setBlockState(BlockPos, BlockState, boolean)}
+     * are let through for this chunk. This is only enabled while the owning world is applying a block
+     * change that does not need to be captured by the {@link org.spongepowered.common.event.tracking.PhaseTracker}.
+     *
+     * @param untracked Whether untracked writes are allowed
+     * @return Whether untracked writes were allowed before this call
+     */
+    boolean bridge$setUntrackedWrites(boolean untracked);
+
 }
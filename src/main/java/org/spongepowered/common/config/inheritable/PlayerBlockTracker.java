@@ -24,12 +24,19 @@
  */
 package org.spongepowered.common.config.inheritable;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.block.Block;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 @ConfigSerializable
 public final class PlayerBlockTracker {
@@ -42,4 +49,26 @@ public final class PlayerBlockTracker {
     @Setting("block-blacklist")
     @Comment("Blocks that will be blacklisted for player block placement tracking. In namespaced format, ex. 'minecraft:stone'")
     public final List<String> blockBlacklist = new ArrayList<>();
+
+    // Every load creates a new category, so this is resolved once per load
+    private volatile @Nullable Set<Block> resolvedBlockBlacklist;
+
+    public boolean isBlacklisted(final Block block) {
+        Set<Block> blacklist = this.resolvedBlockBlacklist;
+        if (blacklist == null) {
+            if (this.blockBlacklist.isEmpty()) {
+                blacklist = Collections.emptySet();
+            } else {
+                blacklist = new ReferenceOpenHashSet<>();
+                for (final String id : this.blockBlacklist) {
+                    final ResourceLocation location = ResourceLocation.tryParse(id);
+                    if (location != null) {
+                        Registry.BLOCK.getOptional(location).ifPresent(blacklist::add);
+                    }
+                }
+            }
+            this.resolvedBlockBlacklist = blacklist;
+        }
+        return blacklist.contains(block);
+    }
 }
@@ -59,6 +59,33 @@ public static boolean syncDataToTag(Object dataHolder) {
         return false;
     }
 
+    /**
+     * Called after the custom data of a holder has been mutated. Holders that
+     * defer serialization are only marked dirty, their data is written to the
+     * compound on the next {@link #syncDataToTag(Object)}, usually when saved.
+     *
+     * @param dataHolder The data holder
+     */
+    public static void markDataChanged(final SpongeDataHolderBridge dataHolder) {
+        if (dataHolder.bridge$defersDataSync()) {
+            dataHolder.bridge$setDataDirty(true);
+        } else {
+            DataUtil.syncDataToTag(dataHolder);
+        }
+    }
+
+    /**
+     * Writes pending custom data of a holder that defers serialization to its
+     * compound, needed whenever the compound is read outside of saving.
+     *
+     * @param dataHolder The data holder
+     */
+    public static void syncDirtyDataToTag(final Object dataHolder) {
+        if (dataHolder instanceof SpongeDataHolderBridge && ((SpongeDataHolderBridge) dataHolder).bridge$isDataDirty()) {
+            DataUtil.syncDataToTag(dataHolder);
+        }
+    }
+
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deserializeSpongeData(final T dataHolder) {
         final CompoundTag compound = dataHolder.data$getCompound();
         if (compound == null) {
@@ -173,6 +200,7 @@ private static void upgradeV2CustomData(CompoundTag compound, DataContainer allD
     }
 
     public static <T extends SpongeDataHolderBridge & DataCompoundHolder> boolean serializeSpongeData(final T dataHolder) {
+        dataHolder.bridge$setDataDirty(false);
         CompoundTag compound = dataHolder.data$getCompound();
         if (compound == null) {
             compound = new CompoundTag();
@@ -36,7 +36,6 @@
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.data.DataManager;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
@@ -47,8 +46,10 @@
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryType;
 import org.spongepowered.api.util.Coerce;
+import org.spongepowered.common.registry.provider.DataTranslatorProvider;
 import org.spongepowered.common.registry.provider.KeyProvider;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -68,12 +69,31 @@
  */
 public class MemoryDataView implements DataView {
 
+    /**
+     * Caches how values of a given class are serialized when set, replacing the
+     * registry type and translator lookups previously made on every write.
+     */
+    private static final ClassValue<ValueSerializer> SERIALIZERS = new ClassValue<ValueSerializer>() {
+        @Override
+        protected ValueSerializer computeValue(final Class<?> type) {
+            return ValueSerializer.of(type);
+        }
+    };
+
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
+    // Copy on write: a container created through copy() reads through to the
+    // container it was copied from until either of them is written to, at which
+    // point the copy takes its own contents. Only ever set on root containers.
+    @Nullable private volatile MemoryDataView copySource;
+    @Nullable private List<WeakReference<MemoryDataView>> pendingCopies;
+    // Set while materialize fills the map, only read and written holding the lock on this view
+    private boolean materializing;
+
     MemoryDataView(final DataView.SafetyMode safety) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = DataQuery.of();
@@ -113,6 +133,14 @@ public Optional<DataView> getParent() {
 
     @Override
     public Set<DataQuery> getKeys(final boolean deep) {
+        if (this.copySource != null) {
+            synchronized (this) {
+                final MemoryDataView source = this.copySource;
+                if (source != null && !this.materializing) {
+                    return source.getKeys(deep);
+                }
+            }
+        }
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
 
         for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
@@ -147,6 +175,14 @@ public Map<DataQuery, Object> getValues(final boolean deep) {
     @Override
     public final boolean contains(final DataQuery path) {
         Objects.requireNonNull(path, "path");
+        if (this.copySource != null) {
+            synchronized (this) {
+                final MemoryDataView source = this.copySource;
+                if (source != null && !this.materializing) {
+                    return source.contains(path);
+                }
+            }
+        }
         final List<String> queryParts = path.getParts();
 
         final String key = queryParts.get(0);
@@ -187,6 +223,19 @@ public Optional<Object> get(final DataQuery path) {
         if (sz == 0) {
             return Optional.of(this);
         }
+        if (this.copySource != null) {
+            synchronized (this) {
+                final MemoryDataView source = this.copySource;
+                if (source != null && !this.materializing) {
+                    final Optional<Object> value = source.get(path);
+                    // Views are tied to their container, so they can't be handed out from the source
+                    if (!value.isPresent() || !MemoryDataView.containsView(value.get())) {
+                        return value;
+                    }
+                    this.materialize();
+                }
+            }
+        }
 
         final String key = queryParts.get(0);
         if (sz == 1) {
@@ -233,15 +282,7 @@ public DataView set(final DataQuery path, final Object value) {
         Objects.requireNonNull(value, "value");
         checkState(this.container != null);
         checkState(!path.getParts().isEmpty(), "The path is empty");
-
-        @Nullable DataManager manager;
-
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (final Exception e) {
-            manager = null;
-        }
+        this.beforeWrite();
 
         final List<String> parts = path.getParts();
         final String key = parts.get(0);
@@ -268,8 +309,8 @@ public DataView set(final DataQuery path, final Object value) {
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
             this.copyDataView(path, valueContainer);
-        } else if (SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).isPresent()) {
-            final RegistryType<Object> registry = SpongeDataManager.INSTANCE.findRegistryTypeFor(value.getClass()).get();
+        } else if (MemoryDataView.SERIALIZERS.get(value.getClass()).registry != null) {
+            final RegistryType<Object> registry = (RegistryType<Object>) MemoryDataView.SERIALIZERS.get(value.getClass()).registry;
             final ResourceKey valueKey = Sponge.getGame().registries().registry(registry).valueKey(value);
             // TODO if we serialize into a DataView - deserialize needs to do it too
 //            final DataView view = this.createView(path);
@@ -281,8 +322,8 @@ public DataView set(final DataQuery path, final Object value) {
         }
         else if (value instanceof ResourceKey) {
             return this.set(path, value.toString());
-        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
-            final DataTranslator serializer = manager.getTranslator(value.getClass()).get();
+        } else if (MemoryDataView.SERIALIZERS.get(value.getClass()).translator != null) {
+            final DataTranslator serializer = MemoryDataView.SERIALIZERS.get(value.getClass()).translator;
             final DataContainer container = serializer.translate(value);
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
@@ -322,13 +363,6 @@ else if (value instanceof ResourceKey) {
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(final String key, final Collection<?> value) {
         final ImmutableList.Builder<Object> builder = ImmutableList.builder();
-        @Nullable DataManager manager;
-
-        try {
-            manager = Sponge.getDataManager();
-        } catch (final Exception e) {
-            manager = null;
-        }
 
         for (final Object object : value) {
             if (object instanceof DataSerializable) {
@@ -351,21 +385,14 @@ private void setCollection(final String key, final Collection<?> value) {
             } else if (object instanceof Collection) {
                 builder.add(this.ensureSerialization((Collection) object));
             } else {
-                if (manager != null) {
-                    final Optional<? extends DataTranslator<?>> translatorOptional = manager.getTranslator(
-                        object.getClass());
-                    if (translatorOptional.isPresent()) {
-                        final DataTranslator translator = translatorOptional.get();
-                        final DataContainer container = translator.translate(object);
-                        checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
-                        builder.add(container);
-                    } else {
-                        builder.add(object);
-                    }
+                final DataTranslator translator = MemoryDataView.SERIALIZERS.get(object.getClass()).translator;
+                if (translator != null) {
+                    final DataContainer container = translator.translate(object);
+                    checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+                    builder.add(container);
                 } else {
                     builder.add(object);
                 }
-
             }
         }
         this.map.put(key, builder.build());
@@ -421,6 +448,7 @@ private void copyDataView(final DataQuery path, final DataView value) {
     @Override
     public DataView remove(final DataQuery path) {
         Objects.requireNonNull(path, "path");
+        this.beforeWrite();
         final List<String> parts = path.getParts();
         if (parts.size() > 1) {
             final String subKey = parts.get(0);
@@ -445,6 +473,7 @@ public DataView createView(final DataQuery path) {
         final int sz = queryParts.size();
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
+        this.beforeWrite();
 
         final String key = queryParts.get(0);
         final DataQuery keyQuery = DataQuery.of(key);
@@ -819,6 +848,11 @@ public <T> Optional<List<T>> getObjectList(final DataQuery path, final Class<T>
 
     @Override
     public DataContainer copy() {
+        if (this.safety != DataView.SafetyMode.CLONED_ON_SET) {
+            // Reads of a copy return the same values as reads of this view would, except for
+            // CLONED_ON_SET where arrays are handed out as is, so the copy needs its own.
+            return this.copyOnWrite();
+        }
         final DataContainer container = new MemoryDataContainer(this.safety);
         this.getKeys(false)
             .forEach(query ->
@@ -831,6 +865,9 @@ public DataContainer copy() {
 
     @Override
     public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.SafetyMode safety) {
+        if (safety == this.safety) {
+            return this.copy();
+        }
         final DataContainer container = new MemoryDataContainer(safety);
         this.getKeys(false)
             .forEach(query ->
@@ -843,6 +880,14 @@ public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.
 
     @Override
     public boolean isEmpty() {
+        if (this.copySource != null) {
+            synchronized (this) {
+                final MemoryDataView source = this.copySource;
+                if (source != null && !this.materializing) {
+                    return source.isEmpty();
+                }
+            }
+        }
         return this.map.isEmpty();
     }
 
@@ -853,6 +898,8 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode getSafetyMode(
 
     @Override
     public int hashCode() {
+        // Hashing, like equals and toString, needs the contents so it forces the copy
+        this.materialize();
         return Objects.hash(this.map, this.path);
     }
 
@@ -865,6 +912,8 @@ public boolean equals(@Nullable final Object obj) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        this.materialize();
+        other.materialize();
 
         return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
             && com.google.common.base.Objects.equal(this.path, other.path);
@@ -872,6 +921,8 @@ public boolean equals(@Nullable final Object obj) {
 
     @Override
     public String toString() {
+        // Forces the copy, see hashCode
+        this.materialize();
         final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
         if (!this.path.toString().isEmpty()) {
             helper.add("path", this.path);
@@ -879,4 +930,108 @@ public String toString() {
         helper.add("safety", this.safety.name());
         return helper.add("map", this.map).toString();
     }
+
+    private DataContainer copyOnWrite() {
+        final MemoryDataView source = this.copySource != null ? this.copySource : this;
+        if (!(source instanceof MemoryDataContainer)) {
+            // Nested views can't be shared, only their containers track writes
+            final DataContainer container = new MemoryDataContainer(this.safety);
+            this.getKeys(false).forEach(query -> this.get(query).ifPresent(obj -> container.set(query, obj)));
+            return container;
+        }
+        final MemoryDataContainer copy = new MemoryDataContainer(this.safety);
+        synchronized (source) {
+            if (source.pendingCopies == null) {
+                source.pendingCopies = new ArrayList<>();
+            } else {
+                source.pendingCopies.removeIf(reference -> reference.get() == null);
+            }
+            source.pendingCopies.add(new WeakReference<>(copy));
+            copy.copySource = source;
+        }
+        return copy;
+    }
+
+    /**
+     * Called before any write to this view, making sure neither this view's
+     * container nor any copy of it still shares contents with the other.
+     */
+    private void beforeWrite() {
+        final MemoryDataView root = this.container instanceof MemoryDataView ? (MemoryDataView) this.container : this;
+        root.materialize();
+        if (root.pendingCopies != null) {
+            final List<WeakReference<MemoryDataView>> copies;
+            synchronized (root) {
+                copies = root.pendingCopies;
+                root.pendingCopies = null;
+            }
+            if (copies != null) {
+                for (final WeakReference<MemoryDataView> reference : copies) {
+                    final MemoryDataView copy = reference.get();
+                    if (copy != null) {
+                        copy.materialize();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes over the contents of the container this was copied from, exactly
+     * like an eager copy would have. The source is only cleared once the
+     * contents are complete, readers that find it set wait on this view.
+     */
+    private void materialize() {
+        if (this.copySource == null) {
+            return;
+        }
+        synchronized (this) {
+            final MemoryDataView source = this.copySource;
+            // Writes made while copying go through beforeWrite, which lands here again
+            if (source == null || this.materializing) {
+                return;
+            }
+            this.materializing = true;
+            try {
+                for (final DataQuery query : source.getKeys(false)) {
+                    source.get(query).ifPresent(obj -> this.set(query, obj));
+                }
+            } finally {
+                this.materializing = false;
+            }
+            this.copySource = null;
+        }
+    }
+
+    private static boolean containsView(final Object value) {
+        if (value instanceof DataView) {
+            return true;
+        }
+        if (value instanceof Collection) {
+            for (final Object element : (Collection<?>) value) {
+                if (element instanceof DataView) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class ValueSerializer {
+
+        @Nullable final RegistryType<?> registry;
+        @SuppressWarnings("rawtypes")
+        @Nullable final DataTranslator translator;
+
+        @SuppressWarnings("rawtypes")
+        private ValueSerializer(@Nullable final RegistryType<?> registry, @Nullable final DataTranslator translator) {
+            this.registry = registry;
+            this.translator = translator;
+        }
+
+        static ValueSerializer of(final Class<?> type) {
+            final RegistryType<?> registry = SpongeDataManager.INSTANCE.findRegistryTypeFor(type).orElse(null);
+            return new ValueSerializer(registry, DataTranslatorProvider.INSTANCE.getSerializer(type).orElse(null));
+        }
+    }
 }
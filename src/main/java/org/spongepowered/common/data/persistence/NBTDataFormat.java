@@ -34,8 +34,6 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 
 public final class NBTDataFormat implements DataFormat {
 
@@ -49,8 +47,7 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
             dis = new DataInputStream(input);
         }
         try {
-            CompoundTag tag = NbtIo.read(dis);
-            return NBTTranslator.INSTANCE.translateFrom(tag);
+            return NBTStreams.read(dis);
         } finally {
             dis.close();
         }
@@ -59,7 +56,6 @@ public DataContainer readFrom(InputStream input) throws InvalidDataFormatExcepti
     @Override
     @SuppressWarnings("resource")
     public void writeTo(OutputStream output, DataView data) throws IOException {
-        CompoundTag tag = NBTTranslator.INSTANCE.translate(data);
         DataOutputStream dos;
         if (output instanceof DataOutputStream) {
             dos = (DataOutputStream) output;
@@ -67,7 +63,7 @@ public void writeTo(OutputStream output, DataView data) throws IOException {
             dos = new DataOutputStream(output);
         }
         try {
-            NbtIo.write(tag, dos);
+            NBTStreams.write(dos, data);
         } finally {
             dos.close();
         }
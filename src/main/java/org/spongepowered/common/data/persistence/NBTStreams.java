@@ -0,0 +1,423 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.persistence.DataQuery.of;
+
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.common.util.Constants;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads and writes the NBT binary format directly from and to
+ * {@link DataView}s, producing the same results as going through
+ * {@link NBTTranslator} without building an intermediate
+ * {@link net.minecraft.nbt.CompoundTag}.
+ */
+public final class NBTStreams {
+
+    // Same limit as vanilla's NbtIo
+    private static final int MAX_DEPTH = 512;
+
+    public static DataContainer read(final DataInput input) throws IOException {
+        return NBTStreams.read(input, null);
+    }
+
+    /**
+     * Reads a root compound, only keeping the values at or below the given
+     * paths. Everything else is skipped over in the stream.
+     *
+     * @param input The input
+     * @param paths The paths to keep, or null to keep everything
+     * @return The read container
+     * @throws IOException If the data could not be read
+     */
+    public static DataContainer read(final DataInput input, @Nullable final Collection<DataQuery> paths) throws IOException {
+        checkNotNull(input);
+        if (input.readByte() != Constants.NBT.TAG_COMPOUND) {
+            throw new IOException("Root tag must be a named compound tag");
+        }
+        input.readUTF();
+        final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        NBTStreams.readCompound(input, container, DataQuery.of(), paths == null ? null : new ArrayList<>(paths), 0);
+        return container;
+    }
+
+    public static DataContainer readCompressed(final InputStream stream, @Nullable final Collection<DataQuery> paths) throws IOException {
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)))) {
+            return NBTStreams.read(input, paths);
+        }
+    }
+
+    public static void write(final DataOutput output, final DataView view) throws IOException {
+        checkNotNull(output);
+        checkNotNull(view);
+        output.writeByte(Constants.NBT.TAG_COMPOUND);
+        output.writeUTF("");
+        NBTStreams.writeCompound(output, view, 0);
+    }
+
+    public static void writeCompressed(final OutputStream stream, final DataView view) throws IOException {
+        try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(stream)))) {
+            NBTStreams.write(output, view);
+        }
+    }
+
+    private static void readCompound(final DataInput input, final DataView view, final DataQuery path,
+        @Nullable final List<DataQuery> paths, final int depth) throws IOException {
+        NBTStreams.checkDepth(depth);
+        byte type;
+        while ((type = input.readByte()) != Constants.NBT.TAG_END) {
+            final String key = input.readUTF();
+            @Nullable List<DataQuery> childPaths = paths;
+            if (paths != null) {
+                final DataQuery childPath = path.then(key);
+                if (NBTStreams.isCovered(childPath, paths)) {
+                    childPaths = null;
+                } else if (type != Constants.NBT.TAG_COMPOUND || !NBTStreams.isParentOf(childPath, paths)) {
+                    NBTStreams.skip(input, type, depth + 1);
+                    continue;
+                }
+            }
+            if (type == Constants.NBT.TAG_COMPOUND) {
+                // Set the data straight into the child view, like NBTTranslator does
+                NBTStreams.readCompound(input, view.createView(of(key)), path.then(key), childPaths, depth + 1);
+            } else if (type == Constants.NBT.TAG_BYTE && key.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+                view.set(of(key.replace(NBTTranslator.BOOLEAN_IDENTIFIER, "")), input.readByte() != 0);
+            } else {
+                view.set(of(key), NBTStreams.readValue(input, type, depth + 1));
+            }
+        }
+    }
+
+    private static Object readValue(final DataInput input, final byte type, final int depth) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                return input.readByte();
+            case Constants.NBT.TAG_SHORT:
+                return input.readShort();
+            case Constants.NBT.TAG_INT:
+                return input.readInt();
+            case Constants.NBT.TAG_LONG:
+                return input.readLong();
+            case Constants.NBT.TAG_FLOAT:
+                return input.readFloat();
+            case Constants.NBT.TAG_DOUBLE:
+                return input.readDouble();
+            case Constants.NBT.TAG_BYTE_ARRAY: {
+                final byte[] array = new byte[input.readInt()];
+                input.readFully(array);
+                return array;
+            }
+            case Constants.NBT.TAG_STRING:
+                return input.readUTF();
+            case Constants.NBT.TAG_LIST: {
+                NBTStreams.checkDepth(depth);
+                final byte elementType = input.readByte();
+                final int size = input.readInt();
+                if (elementType == Constants.NBT.TAG_END && size > 0) {
+                    throw new IOException("Missing type on ListTag");
+                }
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(NBTStreams.readValue(input, elementType, depth + 1));
+                }
+                return list;
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                final DataContainer container = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+                NBTStreams.readCompound(input, container, DataQuery.of(), null, depth);
+                return container;
+            }
+            case Constants.NBT.TAG_INT_ARRAY: {
+                final int[] array = new int[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            case Constants.NBT.TAG_LONG_ARRAY: {
+                final long[] array = new long[input.readInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readLong();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void skip(final DataInput input, final byte type, final int depth) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                input.skipBytes(1);
+                break;
+            case Constants.NBT.TAG_SHORT:
+                input.skipBytes(2);
+                break;
+            case Constants.NBT.TAG_INT:
+            case Constants.NBT.TAG_FLOAT:
+                input.skipBytes(4);
+                break;
+            case Constants.NBT.TAG_LONG:
+            case Constants.NBT.TAG_DOUBLE:
+                input.skipBytes(8);
+                break;
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                NBTStreams.skipFully(input, input.readInt());
+                break;
+            case Constants.NBT.TAG_STRING:
+                NBTStreams.skipFully(input, input.readUnsignedShort());
+                break;
+            case Constants.NBT.TAG_LIST: {
+                NBTStreams.checkDepth(depth);
+                final byte elementType = input.readByte();
+                final int size = input.readInt();
+                for (int i = 0; i < size; i++) {
+                    NBTStreams.skip(input, elementType, depth + 1);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                NBTStreams.checkDepth(depth);
+                byte elementType;
+                while ((elementType = input.readByte()) != Constants.NBT.TAG_END) {
+                    NBTStreams.skipFully(input, input.readUnsignedShort());
+                    NBTStreams.skip(input, elementType, depth + 1);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_INT_ARRAY:
+                NBTStreams.skipFully(input, input.readInt() * 4L);
+                break;
+            case Constants.NBT.TAG_LONG_ARRAY:
+                NBTStreams.skipFully(input, input.readInt() * 8L);
+                break;
+            default:
+                throw new IOException("Unknown NBT type " + type);
+        }
+    }
+
+    private static void skipFully(final DataInput input, long length) throws IOException {
+        while (length > 0) {
+            final int skipped = input.skipBytes((int) Math.min(length, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may give up early, fall back to reading
+                input.readByte();
+                length--;
+            } else {
+                length -= skipped;
+            }
+        }
+    }
+
+    private static void writeCompound(final DataOutput output, final DataView view, final int depth) throws IOException {
+        NBTStreams.checkDepth(depth);
+        for (final Map.Entry<DataQuery, Object> entry : view.getValues(false).entrySet()) {
+            final Object value = entry.getValue();
+            final String key = entry.getKey().asString('.');
+            if (value instanceof DataView || value instanceof Map && view.getView(entry.getKey()).isPresent()) {
+                output.writeByte(Constants.NBT.TAG_COMPOUND);
+                output.writeUTF(key);
+                NBTStreams.writeCompound(output, view.getView(entry.getKey()).get(), depth + 1);
+            } else if (value instanceof Boolean) {
+                output.writeByte(Constants.NBT.TAG_BYTE);
+                output.writeUTF(key + NBTTranslator.BOOLEAN_IDENTIFIER);
+                output.writeByte((Boolean) value ? 1 : 0);
+            } else {
+                output.writeByte(NBTStreams.getType(value));
+                output.writeUTF(key);
+                NBTStreams.writeValue(output, value, depth + 1);
+            }
+        }
+        output.writeByte(Constants.NBT.TAG_END);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static byte getType(final Object value) {
+        if (value instanceof Boolean || value instanceof Byte) {
+            return Constants.NBT.TAG_BYTE;
+        } else if (value instanceof Short) {
+            return Constants.NBT.TAG_SHORT;
+        } else if (value instanceof Integer) {
+            return Constants.NBT.TAG_INT;
+        } else if (value instanceof Long) {
+            return Constants.NBT.TAG_LONG;
+        } else if (value instanceof Float) {
+            return Constants.NBT.TAG_FLOAT;
+        } else if (value instanceof Double) {
+            return Constants.NBT.TAG_DOUBLE;
+        } else if (value instanceof String) {
+            return Constants.NBT.TAG_STRING;
+        } else if (value instanceof byte[] || value instanceof Byte[]) {
+            return Constants.NBT.TAG_BYTE_ARRAY;
+        } else if (value instanceof int[] || value instanceof Integer[]) {
+            return Constants.NBT.TAG_INT_ARRAY;
+        } else if (value instanceof long[] || value instanceof Long[]) {
+            return Constants.NBT.TAG_LONG_ARRAY;
+        } else if (value instanceof List) {
+            return Constants.NBT.TAG_LIST;
+        } else if (value instanceof Map || value instanceof DataSerializable || value instanceof DataView) {
+            return Constants.NBT.TAG_COMPOUND;
+        }
+        throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void writeValue(final DataOutput output, final Object value, final int depth) throws IOException {
+        if (value instanceof Boolean) {
+            output.writeByte((Boolean) value ? 1 : 0);
+        } else if (value instanceof Byte) {
+            output.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            output.writeShort((Short) value);
+        } else if (value instanceof Integer) {
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeDouble((Double) value);
+        } else if (value instanceof String) {
+            output.writeUTF((String) value);
+        } else if (value instanceof byte[]) {
+            output.writeInt(((byte[]) value).length);
+            output.write((byte[]) value);
+        } else if (value instanceof Byte[]) {
+            output.writeInt(((Byte[]) value).length);
+            for (final Byte data : (Byte[]) value) {
+                output.writeByte(data);
+            }
+        } else if (value instanceof int[]) {
+            output.writeInt(((int[]) value).length);
+            for (final int data : (int[]) value) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof Integer[]) {
+            output.writeInt(((Integer[]) value).length);
+            for (final Integer data : (Integer[]) value) {
+                output.writeInt(data);
+            }
+        } else if (value instanceof long[]) {
+            output.writeInt(((long[]) value).length);
+            for (final long data : (long[]) value) {
+                output.writeLong(data);
+            }
+        } else if (value instanceof Long[]) {
+            output.writeInt(((Long[]) value).length);
+            for (final Long data : (Long[]) value) {
+                output.writeLong(data);
+            }
+        } else if (value instanceof List) {
+            NBTStreams.checkDepth(depth);
+            final List<?> list = (List<?>) value;
+            final byte elementType = list.isEmpty() ? Constants.NBT.TAG_END : NBTStreams.getType(list.get(0));
+            output.writeByte(elementType);
+            output.writeInt(list.size());
+            for (final Object element : list) {
+                if (NBTStreams.getType(element) != elementType) {
+                    throw new IllegalArgumentException("Lists may only contain elements of a single type: " + value);
+                }
+                NBTStreams.writeValue(output, element, depth + 1);
+            }
+        } else if (value instanceof Map) {
+            NBTStreams.checkDepth(depth);
+            for (final Map.Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+                final Object entryValue = entry.getValue();
+                if (entry.getKey() instanceof DataQuery && entryValue instanceof Boolean) {
+                    output.writeByte(Constants.NBT.TAG_BYTE);
+                    output.writeUTF(((DataQuery) entry.getKey()).asString('.') + NBTTranslator.BOOLEAN_IDENTIFIER);
+                } else {
+                    output.writeByte(NBTStreams.getType(entryValue));
+                    output.writeUTF(entry.getKey() instanceof DataQuery ? ((DataQuery) entry.getKey()).asString('.') : entry.getKey().toString());
+                }
+                NBTStreams.writeValue(output, entryValue, depth + 1);
+            }
+            output.writeByte(Constants.NBT.TAG_END);
+        } else if (value instanceof DataSerializable) {
+            NBTStreams.writeCompound(output, ((DataSerializable) value).toContainer(), depth);
+        } else if (value instanceof DataView) {
+            NBTStreams.writeCompound(output, (DataView) value, depth);
+        } else {
+            throw new IllegalArgumentException("Unable to translate object to NBTBase: " + value);
+        }
+    }
+
+    private static boolean isCovered(final DataQuery path, final List<DataQuery> paths) {
+        for (final DataQuery selected : paths) {
+            if (NBTStreams.startsWith(path, selected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isParentOf(final DataQuery path, final List<DataQuery> paths) {
+        for (final DataQuery selected : paths) {
+            if (NBTStreams.startsWith(selected, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(final DataQuery path, final DataQuery prefix) {
+        final List<String> parts = path.getParts();
+        final List<String> prefixParts = prefix.getParts();
+        return parts.size() >= prefixParts.size() && parts.subList(0, prefixParts.size()).equals(prefixParts);
+    }
+
+    private static void checkDepth(final int depth) throws IOException {
+        if (depth > NBTStreams.MAX_DEPTH) {
+            throw new IOException("Tried to read NBT tag with too high complexity, depth > " + NBTStreams.MAX_DEPTH);
+        }
+    }
+
+    private NBTStreams() {
+    }
+}
@@ -69,6 +69,7 @@
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.service.server.permission.BridgeSubject;
 import org.spongepowered.common.service.server.permission.SubjectHelper;
+import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MissingImplementationException;
 import org.spongepowered.math.vector.Vector3d;
@@ -155,6 +156,21 @@ public DataHolder.Mutable getDataHolder(final boolean markDirty) {
     }
 
     public void invalidate() {
+        this.clearData();
+        this.weightChanged();
+    }
+
+    /**
+     * Drops the loaded data of a user that was evicted from the user cache.
+     * Users with unsaved changes keep them until the next save.
+     */
+    public void evicted() {
+        if (!SpongeUser.dirtyUsers.contains(this)) {
+            this.clearData();
+        }
+    }
+
+    private void clearData() {
         this.compound = null;
         this.inventory = null;
         this.enderChest = null;
@@ -163,6 +179,10 @@ public void invalidate() {
         SpongeUser.initializedUsers.remove(this);
     }
 
+    private void weightChanged() {
+        ((SpongeUserManager) SpongeCommon.getGame().getServer().getUserManager()).refreshWeight(this);
+    }
+
     public void initializeIfRequired() {
         if (!this.isInitialized()) {
             this.initialize();
@@ -170,28 +190,72 @@ public void initializeIfRequired() {
     }
 
     public void initialize() {
+        this.initialize(this.readPlayerData());
+    }
+
+    /**
+     * Initializes this user from player data read ahead of time by
+     * {@link #readPlayerData()}, possibly on another thread.
+     *
+     * @param compound The player data, or null if there is none
+     */
+    public void initialize(@Nullable final CompoundTag compound) {
         SpongeUser.initializedUsers.add(this);
-        this.compound = new CompoundTag();
+        if (compound == null) {
+            this.compound = new CompoundTag();
+        } else {
+            this.readCompound(compound);
+        }
+        this.weightChanged();
+    }
+
+    /**
+     * Reads the player data file of this user without applying it. This
+     * only touches the disk and is safe to call off the main thread.
+     *
+     * @return The player data, or null if there is none
+     */
+    @Nullable
+    public CompoundTag readPlayerData() {
         final ServerLevel world = SpongeCommon.getServer().overworld();
         if (world == null) {
-            return;
+            return null;
         }
 
         final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.getServer()).accessor$storageSource();
         final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.profile.getId().toString() + ".dat").toFile();
         if (!file.exists()) {
-            return;
+            return null;
         }
 
-        try {
-            try (final FileInputStream in = new FileInputStream(file)) {
-                this.readCompound(NbtIo.readCompressed(in));
-            }
+        try (final FileInputStream in = new FileInputStream(file)) {
+            return NbtIo.readCompressed(in);
         } catch (final IOException e) {
             SpongeCommon.getLogger().warn("Corrupt user file '{}'!", file, e);
+            return null;
         }
     }
 
+    /**
+     * Gets a rough measure of the memory held by this user, counted in
+     * loaded tags. Inventories are counted per stack. Users with unsaved
+     * changes weigh nothing, so they are never evicted for their size.
+     *
+     * @return The weight
+     */
+    public int getWeight() {
+        if (SpongeUser.dirtyUsers.contains(this)) {
+            return 0;
+        }
+        final CompoundTag compound = this.compound;
+        if (compound == null) {
+            return 1;
+        }
+        return 1 + compound.size()
+                + compound.getList(Constants.Entity.Player.INVENTORY, Constants.NBT.TAG_COMPOUND).size()
+                + compound.getList(Constants.Entity.Player.ENDERCHEST_INVENTORY, Constants.NBT.TAG_COMPOUND).size();
+    }
+
     private UserInventory loadInventory() {
         if (this.inventory == null) {
             if (!this.isInitialized()) {
@@ -423,8 +487,9 @@ public void markDirty() {
             SpongeCommon.getLogger()
                     .warn("Unable to mark user data for [{}] as dirty, data is not initialized! Any changes may be lost.",
                             this.profile.getId());
-        } else {
-            SpongeUser.dirtyUsers.add(this);
+        } else if (SpongeUser.dirtyUsers.add(this)) {
+            // Dirty users are kept in the user cache until they are saved
+            this.weightChanged();
         }
     }
 
@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
@@ -50,7 +51,6 @@
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
-import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -104,6 +104,12 @@ public final class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * The keys used to look up the handlers of non generic events, these
+     * never change for an event class and are shared by all posts.
+     */
+    private final Map<Class<?>, EventType<?>> eventTypes = new ConcurrentHashMap<>(150, 0.75f, 1);
+
     @Inject
     public SpongeEventManager(final Logger logger) {
         this.logger = logger;
@@ -239,8 +245,7 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
         AnnotatedEventListener.Factory handlerFactory = this.classLoaders.get(handleLoader);
         if (handlerFactory == null) {
             final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
-            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-                    new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener", classLoader);
             this.classLoaders.put(handleLoader, handlerFactory);
         }
 
@@ -385,7 +390,8 @@ protected RegisteredListener.Cache getHandlerCache(final Event event) {
         if (event instanceof GenericEvent) {
             eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType()));
         } else {
-            eventType = new EventType(eventClass, null);
+            // Non generic event types only depend on the class, so avoid creating a new key for every post
+            eventType = this.eventTypes.computeIfAbsent(eventClass, type -> new EventType(type, null));
         }
         return this.handlersCache.get(eventType);
     }
@@ -415,38 +421,72 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
             }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
-        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
+        final boolean timingsEnabled = Timings.isTimingsEnabled();
+        if (timingsEnabled) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        }
+        final int size = handlers.size();
+        int start = 0;
+        while (start < size) {
+            // Consecutive listeners of the same plugin share a single cause
+            // frame and phase context, rather than one for each listener
+            final PluginContainer plugin = handlers.get(start).getPlugin();
+            int end = start + 1;
+            while (end < size && handlers.get(end).getPlugin() == plugin) {
+                end++;
+            }
             try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                 final PhaseContext<?> context = this.createPluginContext(handler);
-                 final Timing timings = handler.getTimingsHandler()) {
-                frame.pushCause(handler.getPlugin());
+                 final PhaseContext<?> context = this.createPluginContext(plugin)) {
+                frame.pushCause(plugin);
                 if (context != null) {
                     context.buildAndSwitch();
                 }
-                timings.startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                for (int i = start; i < end; i++) {
+                    // Set for every listener, a nested post clears it when it returns
+                    SpongeCommon.setActivePlugin(plugin);
+                    this.handle(event, handlers.get(i), timingsEnabled);
                 }
-                SpongeCommon.setActivePlugin(handler.getPlugin());
-                handler.handle(event);
             } catch (Throwable e) {
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
+                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), plugin.getMetadata().getId(), e);
             } finally {
                 SpongeCommon.setActivePlugin(null);
             }
+            start = end;
         }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
+        if (timingsEnabled) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
+        }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void handle(final Event event, final RegisteredListener handler, final boolean timingsEnabled) {
+        @Nullable final Timing timings = timingsEnabled ? handler.getTimingsHandler() : null;
+        try {
+            if (timings != null) {
+                timings.startTimingIfSync();
+            }
+            if (event instanceof AbstractEvent) {
+                ((AbstractEvent) event).currentOrder = handler.getOrder();
+            }
+            handler.handle(event);
+        } catch (Throwable e) {
+            this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
+        } finally {
+            if (timings != null) {
+                timings.stopTimingIfSync();
+            }
+        }
+    }
+
     @Nullable
-    private EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
+    private EventListenerPhaseContext createPluginContext(final PluginContainer plugin) {
         if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
             return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
-                .source(handler.getPlugin());
+                .source(plugin);
         }
         return null;
     }
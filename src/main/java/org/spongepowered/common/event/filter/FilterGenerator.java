@@ -37,12 +37,14 @@
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_6;
 
 import com.google.common.collect.Lists;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
@@ -106,42 +108,13 @@ public byte[] generateClass(String name, Method method) {
 
         cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, "java/lang/Object", new String[] { Type.getInternalName(EventFilter.class) });
 
-        SubtypeFilterDelegate sfilter = null;
-        List<FilterDelegate> additional = Lists.newArrayList();
-        boolean cancellation = false;
-        for (Annotation anno : method.getAnnotations()) {
-            Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
-            if (obj == null) {
-                continue;
-            }
-            if (obj instanceof SubtypeFilter) {
-                if (sfilter != null) {
-                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
-                }
-                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
-            } else if (obj instanceof EventTypeFilter) {
-                EventTypeFilter etf = (EventTypeFilter) obj;
-                additional.add(etf.getDelegate(anno));
-                if (etf == EventTypeFilter.CANCELLATION) {
-                    cancellation = true;
-                }
-            }
-        }
-        if (!cancellation && Cancellable.class.isAssignableFrom(method.getParameterTypes()[0])) {
-            additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
-        }
-
-        if (sfilter != null) {
-            sfilter.createFields(cw);
-        }
+        this.createFields(cw, method);
         {
             mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
             mv.visitCode();
             mv.visitVarInsn(ALOAD, 0);
             mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
-            if (sfilter != null) {
-                sfilter.writeCtor(name, cw, mv);
-            }
+            this.writeCtor(name, cw, mv, method);
             mv.visitInsn(RETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -149,51 +122,7 @@ public byte[] generateClass(String name, Method method) {
         {
             mv = cw.visitMethod(ACC_PUBLIC, "filter", "(" + Type.getDescriptor(Event.class) + ")[Ljava/lang/Object;", null, null);
             mv.visitCode();
-            // index of the next available local variable
-            int local = 2;
-            if (sfilter != null) {
-                local = sfilter.write(name, cw, mv, method, local);
-            }
-            for (FilterDelegate eventFilter : additional) {
-                local = eventFilter.write(name, cw, mv, method, local);
-            }
-
-            // local var indices of the parameters values
-            int[] plocals = new int[params.length - 1];
-            for (int i = 1; i < params.length; i++) {
-                Parameter param = params[i];
-                ParameterFilterSourceDelegate source = null;
-                List<ParameterFilterDelegate> paramFilters = Lists.newArrayList();
-                for (Annotation anno : param.getAnnotations()) {
-                    Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
-                    if (obj == null) {
-                        continue;
-                    }
-                    if (obj instanceof ParameterSource) {
-                        if (source != null) {
-                            throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
-                        }
-                        source = ((ParameterSource) obj).getDelegate(anno);
-                    } else if (obj instanceof ParameterFilter) {
-                        paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
-                    }
-                }
-                if (source == null) {
-                    throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
-                }
-                if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
-                    // TODO until better handling for filtering arrays is added
-                    throw new IllegalStateException(
-                            "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
-                }
-                Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
-                local = localState.getFirst();
-                plocals[i - 1] = localState.getSecond();
-
-                for (ParameterFilterDelegate paramFilter : paramFilters) {
-                    paramFilter.write(cw, mv, method, param, plocals[i - 1]);
-                }
-            }
+            int[] plocals = this.writeFilter(name, cw, mv, method);
 
             // create the return array
             if (params.length == 1) {
@@ -222,7 +151,120 @@ public byte[] generateClass(String name, Method method) {
         }
         cw.visitEnd();
         byte[] data = cw.toByteArray();
+        FilterGenerator.dumpClass(name, data);
+        return data;
+    }
 
+    /**
+     * Creates the fields that the filters of the given listener method
+     * require in the generated class.
+     *
+     * @param cw The class writer
+     * @param method The listener method
+     */
+    public void createFields(ClassWriter cw, Method method) {
+        SubtypeFilterDelegate sfilter = FilterGenerator.getSubtypeFilter(method);
+        if (sfilter != null) {
+            sfilter.createFields(cw);
+        }
+    }
+
+    /**
+     * Initializes the fields created by {@link #createFields}, must be called
+     * from each constructor of the generated class.
+     *
+     * @param name The internal name of the generated class
+     * @param cw The class writer
+     * @param mv The constructor visitor
+     * @param method The listener method
+     */
+    public void writeCtor(String name, ClassWriter cw, MethodVisitor mv, Method method) {
+        SubtypeFilterDelegate sfilter = FilterGenerator.getSubtypeFilter(method);
+        if (sfilter != null) {
+            sfilter.writeCtor(name, cw, mv);
+        }
+    }
+
+    /**
+     * Writes the filters of the given listener method. The generated method
+     * must take the event as its first parameter, rejected events return
+     * {@code null} from it. Once the written code completes the event passed
+     * all filters and the additional parameter values of the listener method
+     * are stored in the returned local variables.
+     *
+     * @param name The internal name of the generated class
+     * @param cw The class writer
+     * @param mv The method visitor
+     * @param method The listener method
+     * @return The local variable indices of the parameter values
+     */
+    public int[] writeFilter(String name, ClassWriter cw, MethodVisitor mv, Method method) {
+        Parameter[] params = method.getParameters();
+        // index of the next available local variable
+        int local = 2;
+        SubtypeFilterDelegate sfilter = FilterGenerator.getSubtypeFilter(method);
+        if (sfilter != null) {
+            local = sfilter.write(name, cw, mv, method, local);
+        }
+        for (FilterDelegate eventFilter : FilterGenerator.getEventFilters(method)) {
+            local = eventFilter.write(name, cw, mv, method, local);
+        }
+
+        // local var indices of the parameters values
+        int[] plocals = new int[params.length - 1];
+        for (int i = 1; i < params.length; i++) {
+            Parameter param = params[i];
+            ParameterFilterSourceDelegate source = null;
+            List<ParameterFilterDelegate> paramFilters = Lists.newArrayList();
+            for (Annotation anno : param.getAnnotations()) {
+                Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
+                if (obj == null) {
+                    continue;
+                }
+                if (obj instanceof ParameterSource) {
+                    if (source != null) {
+                        throw new IllegalStateException("Cannot have multiple parameter filter source annotations (for " + param.getName() + ")");
+                    }
+                    source = ((ParameterSource) obj).getDelegate(anno);
+                } else if (obj instanceof ParameterFilter) {
+                    paramFilters.add(((ParameterFilter) obj).getDelegate(anno));
+                }
+            }
+            if (source == null) {
+                throw new IllegalStateException("Cannot have additional parameters filters without a source (for " + param.getName() + ")");
+            }
+            if (source instanceof AllCauseFilterSourceDelegate && !paramFilters.isEmpty()) {
+                // TODO until better handling for filtering arrays is added
+                throw new IllegalStateException(
+                        "Cannot have additional parameters filters without an array source (for " + param.getName() + ")");
+            }
+            Tuple<Integer, Integer> localState = source.write(cw, mv, method, param, local);
+            local = localState.getFirst();
+            plocals[i - 1] = localState.getSecond();
+
+            for (ParameterFilterDelegate paramFilter : paramFilters) {
+                paramFilter.write(cw, mv, method, param, plocals[i - 1]);
+            }
+        }
+        return plocals;
+    }
+
+    /**
+     * Writes the filters of the given listener method into a method without
+     * a return value, rejected events return from it early.
+     *
+     * @see #writeFilter(String, ClassWriter, MethodVisitor, Method)
+     * @param name The internal name of the generated class
+     * @param cw The class writer
+     * @param mv The method visitor
+     * @param method The listener method
+     * @return The local variable indices of the parameter values
+     */
+    public int[] writeVoidFilter(String name, ClassWriter cw, MethodVisitor mv, Method method) {
+        return this.writeFilter(name, cw, new VoidRejectMethodVisitor(mv), method);
+    }
+
+    public static void dumpClass(String name, byte[] data) {
         if (FilterGenerator.FILTER_DEBUG) {
             File outDir = new File(".sponge.debug.out");
             File outFile = new File(outDir, name + ".class");
@@ -235,8 +277,39 @@ public byte[] generateClass(String name, Method method) {
                 ignored.printStackTrace();
             }
         }
+    }
 
-        return data;
+    private static SubtypeFilterDelegate getSubtypeFilter(Method method) {
+        SubtypeFilterDelegate sfilter = null;
+        for (Annotation anno : method.getAnnotations()) {
+            Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
+            if (obj instanceof SubtypeFilter) {
+                if (sfilter != null) {
+                    throw new IllegalStateException("Cannot have both @Include and @Exclude annotations present at once");
+                }
+                sfilter = ((SubtypeFilter) obj).getDelegate(anno);
+            }
+        }
+        return sfilter;
+    }
+
+    private static List<FilterDelegate> getEventFilters(Method method) {
+        List<FilterDelegate> additional = Lists.newArrayList();
+        boolean cancellation = false;
+        for (Annotation anno : method.getAnnotations()) {
+            Object obj = FilterGenerator.filterFromAnnotation(anno.annotationType());
+            if (obj instanceof EventTypeFilter) {
+                EventTypeFilter etf = (EventTypeFilter) obj;
+                additional.add(etf.getDelegate(anno));
+                if (etf == EventTypeFilter.CANCELLATION) {
+                    cancellation = true;
+                }
+            }
+        }
+        if (!cancellation && Cancellable.class.isAssignableFrom(method.getParameterTypes()[0])) {
+            additional.add(new CancellationEventFilterDelegate(Tristate.FALSE));
+        }
+        return additional;
     }
 
     private static Object filterFromAnnotation(Class<? extends Annotation> cls) {
@@ -391,6 +464,28 @@ public static ParameterFilter valueOf(Class<? extends Annotation> cls) {
         }
     }
 
+    /**
+     * The filter delegates reject an event by returning {@code null}, which
+     * is rewritten into a plain return for methods without a return value.
+     */
+    private static final class VoidRejectMethodVisitor extends MethodVisitor {
+
+        VoidRejectMethodVisitor(MethodVisitor mv) {
+            super(Opcodes.ASM7, mv);
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            if (opcode == ARETURN) {
+                // Discard the null that would have been returned
+                super.visitInsn(POP);
+                super.visitInsn(RETURN);
+            } else {
+                super.visitInsn(opcode);
+            }
+        }
+    }
+
     private static final class Holder {
 
         static final FilterGenerator INSTANCE = new FilterGenerator();
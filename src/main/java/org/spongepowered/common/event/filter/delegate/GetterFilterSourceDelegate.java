@@ -85,7 +85,9 @@ public Tuple<Integer, Integer> write(ClassWriter cw, MethodVisitor mv, Method me
         mv.visitTypeInsn(CHECKCAST, Type.getInternalName(declaringClass));
         int op = declaringClass.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
         mv.visitMethodInsn(op, Type.getInternalName(declaringClass), targetMethod, "()" + returnType.getDescriptor(), declaringClass.isInterface());
-        int paramLocal = local++;
+        int paramLocal = local;
+        // long and double values take up two local variable slots
+        local += returnType.getSize();
         mv.visitVarInsn(returnType.getOpcode(ISTORE), paramLocal);
         if (!targetMethodObj.getReturnType().isPrimitive()) {
             Label failure = new Label();
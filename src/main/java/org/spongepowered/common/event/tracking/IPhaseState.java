@@ -515,6 +515,20 @@ default boolean isRestoring() {
         return false;
     }
 
+    /**
+     * Gets whether block changes during this state have to be captured as
+     * transactions even when no {@link org.spongepowered.api.event.block.ChangeBlockEvent}
+     * listeners are registered. When {@code false}, and nothing is listening,
+     * block changes may be applied directly to the chunk without building a
+     * {@link org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline}.
+     *
+     * @param context The current context
+     * @return True if the block changes must always be captured
+     */
+    default boolean requiresBlockCapturing(final C context) {
+        return this.isRestoring();
+    }
+
     /**
      * When false, prevents directories from being created during the creation
      * of an {@link net.minecraft.world.chunk.storage.AnvilSaveHandler}. Used
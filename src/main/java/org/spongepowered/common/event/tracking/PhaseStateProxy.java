@@ -438,6 +438,10 @@ default boolean isRestoring() {
         return this.getState().isRestoring();
     }
 
+    default boolean requiresBlockCapturing() {
+        return this.getState().requiresBlockCapturing(this.asContext());
+    }
+
     /**
      * When false, prevents directories from being created during the creation
      * of an {@link }. Used
@@ -0,0 +1,135 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Item drops captured in a single level that later drops may be merged into
+ * before they are spawned. Drops are indexed by item and by a grid of cells
+ * as wide as the merge radius, so a lookup only has to look at the drops of
+ * the same item in the 27 cells surrounding the new drop.
+ */
+final class CapturedItemDrops {
+
+    private final ServerLevel level;
+    private final double radiusSquared;
+    private final int cellSize;
+    private final Reference2ObjectMap<Item, Long2ObjectMap<List<SpawnEntityTransaction>>> drops = new Reference2ObjectOpenHashMap<>();
+
+    CapturedItemDrops(final ServerLevel level, final double radius) {
+        this.level = level;
+        this.radiusSquared = radius * radius;
+        this.cellSize = Math.max(1, Mth.ceil(radius));
+    }
+
+    boolean isFor(final ServerLevel level) {
+        return this.level == level;
+    }
+
+    void add(final SpawnEntityTransaction transaction) {
+        final ItemEntity item = (ItemEntity) transaction.entityToSpawn;
+        final ItemStack stack = item.getItem();
+        if (stack.isEmpty()) {
+            return;
+        }
+        this.drops.computeIfAbsent(stack.getItem(), key -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(this.cellKey(item, 0, 0, 0), key -> new ArrayList<>(2))
+            .add(transaction);
+    }
+
+    /**
+     * Merges the given item into a compatible drop within the merge radius.
+     *
+     * @param item The item entity about to be spawned
+     * @return True if the item was merged and should not be spawned
+     */
+    boolean tryMerge(final ItemEntity item) {
+        final ItemStack stack = item.getItem();
+        if (stack.isEmpty()) {
+            return false;
+        }
+        final Long2ObjectMap<List<SpawnEntityTransaction>> cells = this.drops.get(stack.getItem());
+        if (cells == null) {
+            return false;
+        }
+        for (int x = -1; x <= 1; x++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    final List<SpawnEntityTransaction> candidates = cells.get(this.cellKey(item, x, y, z));
+                    if (candidates != null && this.tryMergeInto(candidates, item, stack)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean tryMergeInto(final List<SpawnEntityTransaction> candidates, final ItemEntity item, final ItemStack stack) {
+        for (final SpawnEntityTransaction transaction : candidates) {
+            final ItemEntity existing = (ItemEntity) transaction.entityToSpawn;
+            if (!existing.isAlive() || existing.distanceToSqr(item) > this.radiusSquared) {
+                continue;
+            }
+            if (!Objects.equals(existing.getOwner(), item.getOwner())) {
+                continue;
+            }
+            final ItemStack existingStack = existing.getItem();
+            if (existingStack.getItem() != stack.getItem()
+                || existingStack.getCount() + stack.getCount() > existingStack.getMaxStackSize()
+                || !ItemStack.tagMatches(existingStack, stack)) {
+                continue;
+            }
+            final ItemStack merged = existingStack.copy();
+            merged.grow(stack.getCount());
+            existing.setItem(merged);
+            transaction.markEntityTagStale();
+            return true;
+        }
+        return false;
+    }
+
+    private long cellKey(final ItemEntity item, final int offsetX, final int offsetY, final int offsetZ) {
+        return BlockPos.asLong(
+            Math.floorDiv(Mth.floor(item.getX()), this.cellSize) + offsetX,
+            Math.floorDiv(Mth.floor(item.getY()), this.cellSize) + offsetY,
+            Math.floorDiv(Mth.floor(item.getZ()), this.cellSize) + offsetZ
+        );
+    }
+}
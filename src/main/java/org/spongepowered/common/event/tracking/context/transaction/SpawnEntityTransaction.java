@@ -54,7 +54,8 @@
 public final class SpawnEntityTransaction extends GameTransaction<SpawnEntityEvent> {
 
     final Supplier<ServerLevel> worldSupplier;
-    final CompoundTag entityTag;
+    private CompoundTag entityTag;
+    private boolean entityTagStale;
     final Entity entityToSpawn;
     final Vector3d originalPosition;
     final Supplier<SpawnType> deducedSpawnType;
@@ -84,6 +85,24 @@ public DummySnapshot(final Vector3d originalPosition, final CompoundTag entityTa
         this.deducedSpawnType = deducedSpawnType;
     }
 
+    /**
+     * Marks the snapshot of the entity to spawn as outdated, used when a
+     * captured entity has been mutated after being logged (such as an item
+     * drop having another drop merged into it). The entity is saved again
+     * once, when the event is created, however many times it was mutated.
+     */
+    void markEntityTagStale() {
+        this.entityTagStale = true;
+    }
+
+    CompoundTag entityTag() {
+        if (this.entityTagStale) {
+            this.entityTag = this.entityToSpawn.saveWithoutId(new CompoundTag());
+            this.entityTagStale = false;
+        }
+        return this.entityTag;
+    }
+
     @Override
     public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
         final @Nullable GameTransaction<@NonNull ?> parent
@@ -114,7 +133,7 @@ public Optional<SpawnEntityEvent> generateEvent(final PhaseContext<@NonNull ?> c
             .map(spawnRequest -> {
                 return new Tuple<>(
                     spawnRequest.entityToSpawn,
-                    new DummySnapshot(spawnRequest.originalPosition, spawnRequest.entityTag, spawnRequest.worldSupplier)
+                    new DummySnapshot(spawnRequest.originalPosition, spawnRequest.entityTag(), spawnRequest.worldSupplier)
                 );
             }).collect(ImmutableList.toImmutableList());
         return Optional.of(context.createSpawnEvent(parent, collect, currentCause));
@@ -40,7 +40,10 @@
 import org.spongepowered.common.accessor.world.damagesource.CombatTrackerAccessor;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.bridge.block.TrackerBlockEventDataBridge;
+import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -65,6 +68,7 @@
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -84,6 +88,9 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier {
     @Nullable private GameTransaction tail;
     @Nullable private GameTransaction head;
     @Nullable private ResultingTransactionBySideEffect effect;
+    // Captured item drops that later drops may be merged into before they are spawned,
+    // only populated when drops pre-merging is enabled.
+    @Nullable private CapturedItemDrops capturedItemDrops;
 
     public TransactionalCaptureSupplier() {
     }
@@ -203,15 +210,66 @@ public void logNeighborNotification(final Supplier<ServerLevel> serverWorldSuppl
         this.logTransaction(notificationTransaction);
     }
 
-    @SuppressWarnings({"unchecked", "ConstantConditions"})
     public void logEntitySpawn(final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
+        final Entity entityIn) {
+        this.logTransaction(this.createSpawnTransaction(current, serverWorld, entityIn));
+    }
+
+    /**
+     * Logs the spawn of an item drop that passed its {@link org.spongepowered.api.event.entity.SpawnEntityEvent.Pre},
+     * such that later drops may be merged into it with {@link #tryMergeCapturedItemDrop(ServerLevel, ItemEntity)}
+     * when drops pre-merging is enabled.
+     *
+     * @param current The current phase context
+     * @param serverWorld The world the item is spawned in
+     * @param item The item entity
+     */
+    public void logItemDropSpawn(final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
+        final ItemEntity item) {
+        final SpawnEntityTransaction transaction = this.createSpawnTransaction(current, serverWorld, item);
+        this.logTransaction(transaction);
+        final CommonConfig config = SpongeConfigs.getCommon().get();
+        if (!config.modules.optimizations || !config.optimizations.dropsPreMerge) {
+            return;
+        }
+        final ServerLevel level = (ServerLevel) serverWorld;
+        if (this.capturedItemDrops == null) {
+            final double radius = ((ServerWorldInfoBridge) level.getLevelData()).bridge$configAdapter().get().world.itemMergeRadius;
+            if (radius <= 0) {
+                return;
+            }
+            this.capturedItemDrops = new CapturedItemDrops(level, radius);
+        }
+        // Drops in any other level are simply not candidates
+        if (this.capturedItemDrops.isFor(level)) {
+            this.capturedItemDrops.add(transaction);
+        }
+    }
+
+    /**
+     * Attempts to merge the given item drop into an item drop previously
+     * logged through {@link #logItemDropSpawn(PhaseContext, TrackedWorldBridge, ItemEntity)},
+     * such that the new drop never has to be added to the world. Drops are
+     * only merged when their stacks are compatible and they are within the
+     * world's item merge radius of one another.
+     *
+     * @param level The level the item is spawned in
+     * @param item The item entity about to be spawned, having passed its pre event
+     * @return True if the item was merged and should not be spawned
+     */
+    public boolean tryMergeCapturedItemDrop(final ServerLevel level, final ItemEntity item) {
+        return this.capturedItemDrops != null && this.capturedItemDrops.isFor(level) && this.capturedItemDrops.tryMerge(item);
+    }
+
+    @SuppressWarnings({"unchecked", "ConstantConditions"})
+    private SpawnEntityTransaction createSpawnTransaction(final PhaseContext<@NonNull ?> current, final TrackedWorldBridge serverWorld,
         final Entity entityIn) {
         final WeakReference<ServerLevel> worldRef = new WeakReference<>((ServerLevel) serverWorld);
         final Supplier<ServerLevel> worldSupplier = () -> Objects.requireNonNull(worldRef.get(), "ServerWorld dereferenced");
         final Supplier<SpawnType> contextualType = current.getSpawnTypeForTransaction(entityIn);
-        final SpawnEntityTransaction transaction = new SpawnEntityTransaction(worldSupplier, entityIn, contextualType);
-        this.logTransaction(transaction);
+        return new SpawnEntityTransaction(worldSupplier, entityIn, contextualType);
     }
+
     private GameTransaction createTileReplacementTransaction(final BlockPos pos, final @Nullable BlockEntity existing,
         final BlockEntity proposed, final Supplier<ServerLevel> worldSupplier
     ) {
@@ -557,6 +615,9 @@ public void reset() {
         if (this.effect != null) {
             this.effect = null;
         }
+        if (this.capturedItemDrops != null) {
+            this.capturedItemDrops = null;
+        }
     }
 
 }
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction.pipeline;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import org.spongepowered.common.event.tracking.context.transaction.effect.CheckBlockPostPlacementIsSameEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyClientEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyNeighborSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.PerformBlockDropsFromDestruction;
+import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateConnectingBlocksEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateLightSideEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateWorldRendererEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.WorldBlockChangeCompleteEffect;
+import org.spongepowered.common.event.tracking.context.transaction.effect.WorldDestroyBlockLevelEffect;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link WorldPipeline.Template templates} used for block changes in a
+ * {@link net.minecraft.server.level.ServerLevel}, compiled once per
+ * {@link SpongeBlockChangeFlag}. Effects that the flag would turn into a
+ * no-op are left out of the template entirely, rather than being checked
+ * for every block change.
+ *
+ * <p>Templates are only ever requested by the tracked block change paths,
+ * which are restricted to the server thread.</p>
+ */
+public final class BlockChangePipelines {
+
+    private static final Int2ObjectMap<BlockChangePipelines> BY_FLAG = new Int2ObjectOpenHashMap<>();
+
+    public static BlockChangePipelines forFlag(final SpongeBlockChangeFlag flag) {
+        final BlockChangePipelines existing = BlockChangePipelines.BY_FLAG.get(flag.getRawFlag());
+        if (existing != null) {
+            return existing;
+        }
+        final BlockChangePipelines pipelines = new BlockChangePipelines(flag);
+        BlockChangePipelines.BY_FLAG.put(flag.getRawFlag(), pipelines);
+        return pipelines;
+    }
+
+    private final WorldPipeline.Template blockChange;
+    private final WorldPipeline.Template setBlock;
+    private final WorldPipeline.Template destroyBlock;
+    private final WorldPipeline.Template destroyBlockWithDrops;
+
+    private BlockChangePipelines(final SpongeBlockChangeFlag flag) {
+        final List<ProcessingSideEffect> effects = new ArrayList<>(6);
+        if (flag.updateLighting()) {
+            effects.add(UpdateLightSideEffect.getInstance());
+        }
+        effects.add(CheckBlockPostPlacementIsSameEffect.getInstance());
+        effects.add(UpdateWorldRendererEffect.getInstance());
+        if (flag.notifyClients()) {
+            effects.add(NotifyClientEffect.getInstance());
+        }
+        if (flag.updateNeighbors()) {
+            effects.add(NotifyNeighborSideEffect.getInstance());
+        }
+        if (flag.notifyObservers() && flag.getRawFlag() > 0) {
+            effects.add(UpdateConnectingBlocksEffect.getInstance());
+        }
+        this.blockChange = WorldPipeline.template(effects.toArray(new ProcessingSideEffect[0]));
+        this.setBlock = this.blockChange.then(WorldBlockChangeCompleteEffect.getInstance());
+        final WorldPipeline.Template destroy = this.blockChange.then(WorldDestroyBlockLevelEffect.getInstance());
+        this.destroyBlock = destroy.then(WorldBlockChangeCompleteEffect.getInstance());
+        this.destroyBlockWithDrops = destroy.then(PerformBlockDropsFromDestruction.getInstance())
+            .then(WorldBlockChangeCompleteEffect.getInstance());
+    }
+
+    /**
+     * Gets the template of world effects for a block change, which is open
+     * to having further effects added by the caller.
+     *
+     * @return The block change template
+     */
+    public WorldPipeline.Template blockChange() {
+        return this.blockChange;
+    }
+
+    public WorldPipeline.Template setBlock() {
+        return this.setBlock;
+    }
+
+    public WorldPipeline.Template destroyBlock(final boolean doDrops) {
+        return doDrops ? this.destroyBlockWithDrops : this.destroyBlock;
+    }
+
+}
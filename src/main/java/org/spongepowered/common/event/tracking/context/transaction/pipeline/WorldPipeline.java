@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.event.tracking.context.transaction.pipeline;
 
-import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.transaction.EffectTransactor;
@@ -33,11 +32,10 @@
 import org.spongepowered.common.event.tracking.context.transaction.effect.ProcessingSideEffect;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
@@ -48,35 +46,31 @@
 
 public final class WorldPipeline implements BlockPipeline {
 
-    private final Supplier<LevelChunk> chunkSupplier;
-    private final Supplier<ServerLevel> serverWorld;
-    private final Supplier<LevelChunkSection> sectionSupplier;
+    private static final ProcessingSideEffect[] NO_EFFECTS = new ProcessingSideEffect[0];
+
     private final boolean wasEmpty;
-    private final List<ResultingTransactionBySideEffect> worldEffects;
+    private final ProcessingSideEffect[] worldEffects;
     private final ChunkPipeline chunkPipeline;
 
-    WorldPipeline(final Builder builder) {
-        this.chunkSupplier = builder.chunkSupplier;
-        this.worldEffects = builder.effects;
-        this.serverWorld = builder.serverWorld;
-        this.sectionSupplier = builder.sectionSupplier;
-        final @Nullable LevelChunkSection chunkSection = Objects.requireNonNull(builder.sectionSupplier).get();
+    WorldPipeline(final ChunkPipeline chunkPipeline, final ProcessingSideEffect[] worldEffects) {
+        this.chunkPipeline = chunkPipeline;
+        this.worldEffects = worldEffects;
+        final @Nullable LevelChunkSection chunkSection = chunkPipeline.getAffectedSection();
         this.wasEmpty = chunkSection == null || chunkSection.isEmpty();
-        this.chunkPipeline = builder.chunkPipeline;
     }
 
     public ServerLevel getServerWorld() {
-        return Objects.requireNonNull(this.serverWorld, "ServerWorld Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getServerWorld();
     }
 
     @Override
     public LevelChunk getAffectedChunk() {
-        return Objects.requireNonNull(this.chunkSupplier, "Chunk Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getAffectedChunk();
     }
 
     @Override
     public LevelChunkSection getAffectedSection() {
-        return Objects.requireNonNull(this.sectionSupplier, "ChunkSection Supplier is null in ChunkPipeline").get();
+        return this.chunkPipeline.getAffectedSection();
     }
 
     public boolean processEffects(final PhaseContext<?> context, final BlockState currentState,
@@ -84,22 +78,25 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
         final @Nullable Entity destroyer, final SpongeBlockChangeFlag flag,
         final int limit
     ) {
-        if (this.worldEffects.isEmpty()) {
+        if (this.worldEffects.length == 0) {
             return false;
         }
-        final ServerLevel serverWorld = Objects.requireNonNull(this.serverWorld).get();
+        final ServerLevel serverWorld = this.chunkPipeline.getServerWorld();
         // We have to get the "old state" from
         final @Nullable BlockState oldState = this.chunkPipeline.processChange(context, currentState, newProposedState, pos, limit);
         if (oldState == null) {
             return false;
         }
         final int oldOpacity = oldState.getLightBlock(serverWorld, pos);
-        final @Nullable BlockEntity existing = this.chunkSupplier.get().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        final @Nullable BlockEntity existing = this.chunkPipeline.getAffectedChunk().getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        // The cursor is shared by every effect of this change, it is only replaced once drops have been produced
         PipelineCursor formerState = new PipelineCursor(oldState, oldOpacity, pos, existing, destroyer, limit);
 
-        for (final ResultingTransactionBySideEffect effect : this.worldEffects) {
+        for (final ProcessingSideEffect sideEffect : this.worldEffects) {
+            // The template is shared between changes, so the transactions captured by an effect are tracked per change
+            final ResultingTransactionBySideEffect effect = new ResultingTransactionBySideEffect(sideEffect);
             try (final EffectTransactor ignored = context.getTransactor().pushEffect(effect)) {
-                final EffectResult result = effect.effect.processSideEffect(
+                final EffectResult result = sideEffect.processSideEffect(
                     this,
                     formerState,
                     newProposedState,
@@ -119,41 +116,83 @@ public boolean processEffects(final PhaseContext<?> context, final BlockState cu
     }
 
     public static Builder builder(final ChunkPipeline pipeline) {
-        return new Builder(Objects.requireNonNull(pipeline, "ChunkPipeline cannot be null!"));
+        return new Builder(Objects.requireNonNull(pipeline, "ChunkPipeline cannot be null!"), WorldPipeline.NO_EFFECTS);
+    }
+
+    /**
+     * Creates an immutable {@link Template} of the given effects, which can
+     * be compiled once and then applied to any number of block changes.
+     *
+     * @param effects The effects, in processing order
+     * @return The template
+     */
+    public static Template template(final ProcessingSideEffect... effects) {
+        for (final ProcessingSideEffect effect : effects) {
+            Objects.requireNonNull(effect, "Effect is null");
+        }
+        return new Template(effects.clone());
     }
 
     public boolean wasEmpty() {
         return this.wasEmpty;
     }
 
+    public static final class Template {
+
+        private final ProcessingSideEffect[] effects;
+
+        Template(final ProcessingSideEffect[] effects) {
+            this.effects = effects;
+        }
+
+        /**
+         * Gets a new template with the given effect processed after the
+         * effects of this template.
+         *
+         * @param effect The effect to append
+         * @return The new template
+         */
+        public Template then(final ProcessingSideEffect effect) {
+            final ProcessingSideEffect[] effects = Arrays.copyOf(this.effects, this.effects.length + 1);
+            effects[this.effects.length] = Objects.requireNonNull(effect, "Effect is null");
+            return new Template(effects);
+        }
+
+        public WorldPipeline create(final ChunkPipeline pipeline) {
+            return new WorldPipeline(Objects.requireNonNull(pipeline, "ChunkPipeline cannot be null!"), this.effects);
+        }
+
+        public Builder builder(final ChunkPipeline pipeline) {
+            return new Builder(Objects.requireNonNull(pipeline, "ChunkPipeline cannot be null!"), this.effects);
+        }
+
+    }
+
     public static final class Builder {
 
-        final Supplier<ServerLevel> serverWorld;
-        final Supplier<LevelChunk> chunkSupplier;
-        final Supplier<LevelChunkSection> sectionSupplier;
-        @MonotonicNonNull List<ResultingTransactionBySideEffect> effects;
         final ChunkPipeline chunkPipeline;
+        final ProcessingSideEffect[] template;
+        @Nullable List<ProcessingSideEffect> effects;
 
-        Builder(final ChunkPipeline chunkPipeline) {
-            this.serverWorld = chunkPipeline::getServerWorld;
-            this.chunkSupplier = chunkPipeline::getAffectedChunk;
-            this.sectionSupplier = chunkPipeline::getAffectedSection;
+        Builder(final ChunkPipeline chunkPipeline, final ProcessingSideEffect[] template) {
             this.chunkPipeline = chunkPipeline;
+            this.template = template;
         }
 
         public Builder addEffect(final ProcessingSideEffect effect) {
             if (this.effects == null) {
-                this.effects = new LinkedList<>();
+                this.effects = new ArrayList<>(this.template.length + 4);
+                this.effects.addAll(Arrays.asList(this.template));
             }
-            this.effects.add(new ResultingTransactionBySideEffect(Objects.requireNonNull(effect, "Effect is null")));
+            this.effects.add(Objects.requireNonNull(effect, "Effect is null"));
             return this;
         }
 
         public WorldPipeline build() {
             if (this.effects == null) {
-                this.effects = Collections.emptyList();
+                return new WorldPipeline(this.chunkPipeline, this.template);
             }
-            return new WorldPipeline(this);
+            return new WorldPipeline(this.chunkPipeline, this.effects.toArray(WorldPipeline.NO_EFFECTS));
         }
 
     }
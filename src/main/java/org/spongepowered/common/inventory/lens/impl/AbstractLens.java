@@ -34,6 +34,7 @@
 import org.spongepowered.common.inventory.lens.impl.slot.SlotLensProvider;
 import org.spongepowered.common.inventory.lens.slots.SlotLens;
 import org.spongepowered.common.inventory.property.KeyValuePair;
+import org.spongepowered.common.inventory.query.LensQueryCache;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
@@ -82,6 +83,7 @@ protected void addChild(final Lens lens, final KeyValuePair... keyValuePairs) {
 
         if (!this.children.contains(lens)) {
             this.children.add(lens);
+            this.queryCache = null;
         }
         this.addKeyValuePairs(lens, keyValuePairs);
     }
@@ -134,6 +136,14 @@ public SlotLens getSlotLens(Fabric fabric, int ordinal) {
     }
 
     private List<SlotLens> slotCache;
+    private LensQueryCache queryCache;
+
+    public LensQueryCache getQueryCache() {
+        if (this.queryCache == null) {
+            this.queryCache = new LensQueryCache(this);
+        }
+        return this.queryCache;
+    }
 
     @Override
     public List<SlotLens> getSlots(Fabric fabric) {
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.inventory.query;
+
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
+import org.spongepowered.common.inventory.lens.slots.SlotLens;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Query plans for a root lens, kept by the lens itself so they go away with it.
+ *
+ * <p>Holds the lens tree flattened in the order {@link SpongeDepthQuery}
+ * visits it, so queries only evaluate their predicate per candidate, and the
+ * results of queries that only depend on the lens structure.</p>
+ */
+public final class LensQueryCache {
+
+    final List<Candidate> candidates;
+    final List<Candidate> slotCandidates;
+    final Map<SpongeQuery, Result> results = new ConcurrentHashMap<>();
+    private final Map<SpongeQuery, Optional<Lens>> lenses = new ConcurrentHashMap<>();
+
+    public LensQueryCache(final Lens root) {
+        final List<Candidate> candidates = new ArrayList<>();
+        LensQueryCache.flatten(root, 0, candidates);
+        final List<Candidate> slotCandidates = new ArrayList<>();
+        for (final Candidate candidate : candidates) {
+            if (candidate.lens instanceof SlotLens) {
+                slotCandidates.add(candidate);
+            }
+        }
+        this.candidates = Collections.unmodifiableList(candidates);
+        this.slotCandidates = Collections.unmodifiableList(slotCandidates);
+    }
+
+    /**
+     * Gets the lens a structural query results in for this root lens,
+     * planning it the first time.
+     *
+     * @param query The query, which must implement equals and hashCode
+     * @param planner Plans the resulting lens, or null if nothing matches
+     * @return The resulting lens, if any
+     */
+    public Optional<Lens> getResultLens(final SpongeQuery query, final Supplier<Lens> planner) {
+        return this.lenses.computeIfAbsent(query, q -> Optional.ofNullable(planner.get()));
+    }
+
+    private static void flatten(final Lens lens, final int offset, final List<Candidate> candidates) {
+        // Matches below a delegating lens are offset by its base
+        final int childOffset = lens.base() != 0 && lens instanceof DelegatingLens ? offset + lens.base() : offset;
+        for (final Lens child : lens.getChildren()) {
+            if (child == null) {
+                continue;
+            }
+            if (!child.getChildren().isEmpty()) {
+                LensQueryCache.flatten(child, childOffset, candidates);
+            }
+            candidates.add(new Candidate(child, lens, childOffset));
+        }
+    }
+
+    static final class Candidate {
+
+        final Lens lens;
+        final Lens parent;
+        final int offset;
+
+        Candidate(final Lens lens, final Lens parent, final int offset) {
+            this.lens = lens;
+            this.parent = parent;
+            this.offset = offset;
+        }
+    }
+
+    static final class Result {
+
+        // Either the resulting lens, null meaning no match, or
+        // the matches still to be reduced against a fabric
+        @Nullable final Lens lens;
+        @Nullable final Map<Lens, Integer> matches;
+
+        Result(@Nullable final Lens lens, @Nullable final Map<Lens, Integer> matches) {
+            this.lens = lens;
+            this.matches = matches;
+        }
+    }
+}
@@ -25,11 +25,14 @@
 package org.spongepowered.common.inventory.query;
 
 import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.common.inventory.EmptyInventoryImpl;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.fabric.Fabric;
 import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.DelegatingLens;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -41,15 +44,83 @@ public abstract class SpongeDepthQuery extends SpongeQuery {
 
     public abstract boolean matches(Lens lens, Lens parent, Inventory inventory);
 
+    /**
+     * Whether {@link #matches} only depends on the lenses and not on the
+     * inventory or its contents. The results of structural queries are cached
+     * per root lens, so these must implement {@link #equals} and
+     * {@link #hashCode}.
+     *
+     * @return Whether this query is structural
+     */
+    protected boolean isStructural() {
+        return false;
+    }
+
+    /**
+     * Whether {@link #matches} can only ever match slot lenses.
+     *
+     * @return Whether only slots need to be checked
+     */
+    protected boolean matchesSlotsOnly() {
+        return false;
+    }
+
     public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         final Fabric fabric = adapter.inventoryAdapter$getFabric();
         final Lens lens = adapter.inventoryAdapter$getRootLens();
 
+        if (!(lens instanceof AbstractLens)) {
+            if (this.matches(lens, null, inventory)) {
+                return lens.getAdapter(fabric, inventory);
+            }
+            return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+        }
+
+        final LensQueryCache cache = ((AbstractLens) lens).getQueryCache();
+        if (!this.isStructural()) {
+            if (this.matches(lens, null, inventory)) {
+                return lens.getAdapter(fabric, inventory);
+            }
+            return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.search(cache, inventory)));
+        }
+
+        LensQueryCache.Result result = cache.results.get(this);
+        if (result == null) {
+            result = this.plan(cache, inventory, lens);
+            cache.results.put(this, result);
+        }
+        if (result.matches != null) {
+            return this.toResult(inventory, fabric, this.reduce(fabric, lens, new LinkedHashMap<>(result.matches)));
+        }
+        if (result.lens == null) {
+            return new EmptyInventoryImpl(inventory);
+        }
+        return result.lens.getAdapter(fabric, inventory);
+    }
+
+    private LensQueryCache.Result plan(final LensQueryCache cache, final Inventory inventory, final Lens lens) {
         if (this.matches(lens, null, inventory)) {
-            return lens.getAdapter(fabric, inventory);
+            return new LensQueryCache.Result(lens, null);
+        }
+        final Map<Lens, Integer> matches = this.search(cache, inventory);
+        for (final Lens match : matches.keySet()) {
+            if (match.slotCount() == 1) {
+                // Reducing single slots resolves their slot lens against the fabric,
+                // which is not structural, so only the matches can be kept
+                return new LensQueryCache.Result(null, Collections.unmodifiableMap(matches));
+            }
         }
+        return new LensQueryCache.Result(this.toResultLens(this.reduce(null, lens, matches)), null);
+    }
 
-        return this.toResult(inventory, fabric, this.reduce(fabric, lens, this.depthFirstSearch(inventory, lens)));
+    private Map<Lens, Integer> search(final LensQueryCache cache, final Inventory inventory) {
+        final Map<Lens, Integer> matches = new LinkedHashMap<>();
+        for (final LensQueryCache.Candidate candidate : this.matchesSlotsOnly() ? cache.slotCandidates : cache.candidates) {
+            if (this.matches(candidate.lens, candidate.parent, inventory)) {
+                matches.put(candidate.lens, candidate.offset);
+            }
+        }
+        return matches;
     }
 
     private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
@@ -73,4 +144,4 @@ private Map<Lens, Integer> depthFirstSearch(Inventory inventory, Lens lens) {
 
         return matches;
     }
-}
\ No newline at end of file
+}
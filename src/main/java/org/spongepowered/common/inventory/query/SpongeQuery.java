@@ -43,6 +43,8 @@
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 public abstract class SpongeQuery implements Query {
 
     @Override
@@ -106,22 +108,29 @@ protected Map<Lens, Integer> reduce(Fabric fabric, Lens lens, Map<Lens, Integer>
     }
 
     protected Inventory toResult(Inventory inventory, Fabric fabric, Map<Lens, Integer> matches) {
-        if (matches.isEmpty()) {
+        final Lens lens = this.toResultLens(matches);
+        if (lens == null) {
             return new EmptyInventoryImpl(inventory);
         }
+        return lens.getAdapter(fabric, inventory);
+    }
+
+    @Nullable
+    protected Lens toResultLens(Map<Lens, Integer> matches) {
+        if (matches.isEmpty()) {
+            return null;
+        }
         if (matches.size() == 1) {
             final Map.Entry<Lens, Integer> entry = matches.entrySet().iterator().next();
             if (entry.getValue() == 0) {
-                return entry.getKey().getAdapter(fabric, inventory);
+                return entry.getKey();
             }
             final LensRegistrar.BasicSlotLensProvider slotProvider = new LensRegistrar.BasicSlotLensProvider(entry.getKey().slotCount());
             // TODO check correct slotprovider
-            final DelegatingLens delegate = new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
-            return delegate.getAdapter(fabric, inventory);
+            return new DelegatingLens(entry.getValue(), entry.getKey(), slotProvider);
         }
 
-        final QueryLens lens = new QueryLens(matches, this);
-        return lens.getAdapter(fabric, inventory);
+        return new QueryLens(matches, this);
     }
 }
 
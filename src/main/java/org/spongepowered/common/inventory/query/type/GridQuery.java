@@ -29,10 +29,17 @@
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.adapter.impl.comp.GridInventoryAdapter;
 import org.spongepowered.common.inventory.lens.CompoundSlotLensProvider;
+import org.spongepowered.common.inventory.lens.Lens;
+import org.spongepowered.common.inventory.lens.impl.AbstractLens;
 import org.spongepowered.common.inventory.lens.impl.comp.GridInventoryLens;
 import org.spongepowered.common.inventory.query.SpongeQuery;
 import org.spongepowered.math.vector.Vector2i;
 
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
 public class GridQuery extends SpongeQuery {
 
     private final Vector2i offset;
@@ -51,11 +58,23 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         }
 
         GridInventoryAdapter gridAdapter = (GridInventoryAdapter) adapter;
+        final Lens rootLens = adapter.inventoryAdapter$getRootLens();
+        // The grid only depends on the adapter's lens, so plan it once per lens
+        final Optional<Lens> lens = rootLens instanceof AbstractLens
+                ? ((AbstractLens) rootLens).getQueryCache().getResultLens(this, () -> this.plan(gridAdapter))
+                : Optional.ofNullable(this.plan(gridAdapter));
+        if (!lens.isPresent()) {
+            return new EmptyInventoryImpl(inventory);
+        }
+        return new GridInventoryAdapter(adapter.inventoryAdapter$getFabric(), (GridInventoryLens) lens.get(), inventory);
+    }
 
+    @Nullable
+    private GridInventoryLens plan(GridInventoryAdapter gridAdapter) {
         Vector2i max = gridAdapter.getDimensions();
         if (max.getX() < this.offset.getX() + this.size.getX() && max.getY() < this.offset.getY() + this.size.getY()) {
             // queried grid does not fit inventory
-            return new EmptyInventoryImpl(inventory);
+            return null;
         }
 
         // Get slots for new grid
@@ -68,9 +87,24 @@ public Inventory execute(Inventory inventory, InventoryAdapter adapter) {
         }
 
         // build new grid lens
-        GridInventoryLens lens = new GridInventoryLens(0, this.size.getX(), this.size.getY(), slotProvider);
-        return new GridInventoryAdapter(adapter.inventoryAdapter$getFabric(), lens, inventory);
+        return new GridInventoryLens(0, this.size.getX(), this.size.getY(), slotProvider);
     }
 
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        final GridQuery other = (GridQuery) obj;
+        return this.offset.equals(other.offset) && this.size.equals(other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.offset, this.size);
+    }
 
 }
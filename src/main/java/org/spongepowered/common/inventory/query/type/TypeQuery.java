@@ -41,4 +41,25 @@ public boolean matches(Lens lens, Lens parent, Inventory inventory) {
         return this.targetType.isAssignableFrom(lens.getAdapterType());
     }
 
+    @Override
+    protected boolean isStructural() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        return this.targetType.equals(((TypeQuery) obj).targetType);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.targetType.hashCode();
+    }
+
 }
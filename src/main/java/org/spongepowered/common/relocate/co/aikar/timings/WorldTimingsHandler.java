@@ -54,6 +54,7 @@ public class WorldTimingsHandler {
     public final Timing tileEntityTick;
     public final Timing tileEntityPending;
     public final Timing tileEntityRemoval;
+    public final Timing tileEntityActivation;
     public final Timing tracker1;
     public final Timing tracker2;
     public final Timing doTick;
@@ -101,6 +102,7 @@ public WorldTimingsHandler(Level world) {
         this.tileEntityTick = SpongeTimingsFactory.ofSafe(name + "tileEntityTick");
         this.tileEntityPending = SpongeTimingsFactory.ofSafe(name + "tileEntityPending");
         this.tileEntityRemoval = SpongeTimingsFactory.ofSafe(name + "tileEntityRemoval");
+        this.tileEntityActivation = SpongeTimingsFactory.ofSafe(name + "tileEntityActivation");
 
         this.syncChunkLoadTimer = SpongeTimingsFactory.ofSafe(name + "syncChunkLoad");
         this.syncChunkLoadDataTimer = SpongeTimingsFactory.ofSafe(name + "syncChunkLoad - Data");
@@ -56,7 +56,6 @@ public final class AsyncScheduler extends SpongeScheduler {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
 
     public AsyncScheduler() {
         super("A");
@@ -68,7 +67,6 @@ public AsyncScheduler() {
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
             this.recalibrateMinimumTimeout();
             this.runTick();
@@ -78,40 +76,10 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
-            final Set<ScheduledTask> tasks = this.getTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.task.delay > 0 && task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
+            // Recalibrate the wait delay for processing tasks before new
+            // tasks cause the scheduler to process pending tasks. Executing
+            // tasks are not queued, we'll signal when we complete the task.
+            this.minimumTimeout = this.getTimeUntilNextTask(System.nanoTime());
         } finally {
             this.lock.unlock();
         }
@@ -122,6 +90,7 @@ protected void addTask(final SpongeScheduledTask task) {
         this.lock.lock();
         try {
             super.addTask(task);
+            this.stateChanged.set(true);
             this.condition.signalAll();
         } finally {
             this.lock.unlock();
@@ -147,11 +116,6 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
         this.lock.unlock();
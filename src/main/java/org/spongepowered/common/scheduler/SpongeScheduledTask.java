@@ -40,6 +40,7 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private final UUID id;
     private final String name;
     private long timestamp;
+    private long deadline;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
 
@@ -76,6 +77,8 @@ public boolean cancel() {
         }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        // The queued entry is discarded lazily by the scheduler
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -110,6 +113,20 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.task.delay;
     }
 
+    /**
+     * Gets the deadline this task was queued with, this is the
+     * {@link #nextExecutionTimestamp()} at the time it was queued.
+     *
+     * @return The deadline
+     */
+    long getDeadline() {
+        return this.deadline;
+    }
+
+    void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
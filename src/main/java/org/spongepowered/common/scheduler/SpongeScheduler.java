@@ -37,13 +37,19 @@
 import org.spongepowered.plugin.PluginContainer;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -54,11 +60,20 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private static final int TICK_DURATION_MS = 50;
     static final long TICK_DURATION_NS = TimeUnit.NANOSECONDS.convert(SpongeScheduler.TICK_DURATION_MS, TimeUnit.MILLISECONDS);
+    // Deadlines are compared by their difference so that System.nanoTime() overflow is handled
+    private static final Comparator<SpongeScheduledTask> DEADLINE_ORDER = (a, b) -> Long.signum(a.getDeadline() - b.getDeadline());
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // The simple lookup of all pending (and running) ScheduledTasks
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    // Tasks that are (re-)entering the schedule, may be appended from any thread
+    private final Queue<SpongeScheduledTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    // The delay-ordered schedules, only ever accessed by the ticking thread. Tick based and
+    // real time tasks are kept apart since their timestamps are not comparable.
+    private final PriorityQueue<SpongeScheduledTask> tickQueue = new PriorityQueue<>(SpongeScheduler.DEADLINE_ORDER);
+    private final PriorityQueue<SpongeScheduledTask> timeQueue = new PriorityQueue<>(SpongeScheduler.DEADLINE_ORDER);
+    private final List<SpongeScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(String tag) {
@@ -80,26 +95,73 @@ protected long getTimestamp(SpongeScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamps of the given task are measured in elapsed
+     * ticks rather than real time. Tasks of both kinds are scheduled in
+     * separate queues, as their timestamps cannot be compared.
+     *
+     * @param task The task
+     * @return True if the task is timed by ticks
+     */
+    protected boolean isTickBased(final SpongeScheduledTask task) {
+        return false;
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * next call to {@link #runTick} where it is due.
      *
      * @param task The task to add
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.pendingTasks.add(task);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes the task from the task map. A queued entry of the task is
+     * discarded once it reaches the head of its queue.
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Moves all tasks that have been added, or that have completed an
+     * execution and are due to repeat, into the delay-ordered queues.
+     */
+    private void drainPendingTasks() {
+        SpongeScheduledTask task;
+        while ((task = this.pendingTasks.poll()) != null) {
+            if (task.getState() == SpongeScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+                continue;
+            }
+            task.setDeadline(task.nextExecutionTimestamp());
+            (this.isTickBased(task) ? this.tickQueue : this.timeQueue).add(task);
+        }
+    }
+
+    /**
+     * Gets the time in nanoseconds until the earliest real time task is due,
+     * or {@link Long#MAX_VALUE} if there is none. Must only be called from
+     * the thread that ticks this scheduler.
+     *
+     * @param now The current timestamp
+     * @return The time until the next task is due
+     */
+    protected long getTimeUntilNextTask(final long now) {
+        this.drainPendingTasks();
+        final SpongeScheduledTask next = this.timeQueue.peek();
+        if (next == null) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, next.getDeadline() - now);
+    }
+
     @Override
     public Optional<ScheduledTask> getTaskById(UUID id) {
         checkNotNull(id, "id");
@@ -166,20 +228,35 @@ public SpongeScheduledTask submit(Task task) {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.drainPendingTasks();
+            this.pollDueTasks(this.tickQueue);
+            this.pollDueTasks(this.timeQueue);
+            // Due tasks are collected first so that a task scheduling other
+            // tasks cannot affect the queues while they are being polled.
+            for (final SpongeScheduledTask task : this.dueTasks) {
+                this.processTask(task);
+            }
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void pollDueTasks(final PriorityQueue<SpongeScheduledTask> queue) {
+        SpongeScheduledTask task;
+        while ((task = queue.peek()) != null && this.getTimestamp(task) - task.getDeadline() >= 0) {
+            this.dueTasks.add(queue.poll());
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -200,7 +277,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task that has reached its deadline.
      *
      * @param task The task to process
      */
@@ -211,34 +288,15 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-        } else if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // Repeating tasks are only queued again once an execution completes,
+        // so that a task is never started while a previous run is executing.
+        // Each start resets the timestamp the next deadline is based on.
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.removeTask(task);
         }
     }
 
@@ -266,6 +324,9 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    if (task.task.interval != 0L) {
+                        this.pendingTasks.add(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
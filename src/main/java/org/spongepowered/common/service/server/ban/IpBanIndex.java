@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.ban;
+
+import com.google.common.net.InetAddresses;
+import net.minecraft.server.players.IpBanListEntry;
+import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
+import org.spongepowered.common.util.IpSet;
+import org.spongepowered.common.util.IpTrie;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The entry map of the {@link net.minecraft.server.players.IpBanList}.
+ *
+ * <p>Entries keyed by a CIDR range, such as {@code 10.0.0.0/8}, are also kept
+ * in an {@link IpTrie} so looking up the ban for an address stays
+ * proportional to the prefix length. Every change is written to the
+ * {@link IpBanJournal} once one is attached.</p>
+ */
+public final class IpBanIndex extends HashMap<String, IpBanListEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IpTrie<String> ranges = new IpTrie<>();
+    @Nullable private transient IpBanJournal journal;
+
+    @Nullable
+    public IpBanJournal getJournal() {
+        return this.journal;
+    }
+
+    public void setJournal(@Nullable final IpBanJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Gets the ban applying to the given address, removing expired bans on
+     * the way.
+     *
+     * @param address The address
+     * @param key The key of the address in the ban list
+     * @return The ban, if any
+     */
+    @Nullable
+    public IpBanListEntry getBan(final InetAddress address, final String key) {
+        IpBanListEntry entry = this.get(key);
+        if (entry != null && ((StoredUserEntryAccessor) entry).invoker$hasExpired()) {
+            this.remove(key);
+            entry = null;
+        }
+        while (entry == null) {
+            final String rangeKey = this.ranges.getMostSpecific(address);
+            if (rangeKey == null) {
+                return null;
+            }
+            entry = this.get(rangeKey);
+            if (entry == null || ((StoredUserEntryAccessor) entry).invoker$hasExpired()) {
+                // Try again with the next less specific range
+                this.remove(rangeKey);
+                entry = null;
+            }
+        }
+        return entry;
+    }
+
+    @Override
+    public IpBanListEntry put(final String key, final IpBanListEntry value) {
+        final IpBanListEntry previous = super.put(key, value);
+        if (previous == null) {
+            final IpSet range = IpBanIndex.parseRange(key);
+            if (range != null) {
+                this.ranges.put(range, key);
+            }
+        }
+        if (this.journal != null) {
+            this.journal.add(value);
+        }
+        return previous;
+    }
+
+    @Override
+    public IpBanListEntry remove(final Object key) {
+        final IpBanListEntry previous = super.remove(key);
+        if (key instanceof String) {
+            final IpSet range = IpBanIndex.parseRange((String) key);
+            if (range != null) {
+                this.ranges.remove(range, (String) key);
+            }
+            if (previous != null && this.journal != null) {
+                this.journal.remove((String) key);
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public void putAll(final Map<? extends String, ? extends IpBanListEntry> map) {
+        for (final Map.Entry<? extends String, ? extends IpBanListEntry> entry : map.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.ranges.clear();
+    }
+
+    @Nullable
+    private static IpSet parseRange(final String key) {
+        final int slashIndex = key.lastIndexOf('/');
+        // Only ranges go in the trie, single addresses are found by their key
+        if (slashIndex == -1 || !InetAddresses.isInetAddress(key.substring(0, slashIndex))) {
+            return null;
+        }
+        try {
+            return IpSet.fromCidr(key);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.server.ban;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import net.minecraft.server.players.IpBanListEntry;
+import net.minecraft.server.players.StoredUserEntry;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
+import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * An append-only log of changes to the IP ban list.
+ *
+ * <p>Changes are appended one json object per line instead of rewriting the
+ * whole ban list file. Once enough have accumulated the journal is compacted,
+ * writing the ban list file on a background thread. Until that completes the
+ * journal being compacted is kept around, so that on load the ban list file,
+ * the journal being compacted and the current journal replayed in that order
+ * always give the latest state.</p>
+ */
+public final class IpBanJournal {
+
+    private static final Gson GSON = new Gson();
+    // Same as StoredUserList
+    private static final Gson LIST_GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final int COMPACTION_THRESHOLD = 1024;
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Ban List Compactor")
+            .setDaemon(true)
+            .build());
+
+    private final Path listFile;
+    private final Path journalFile;
+    private final Path compactingFile;
+    @Nullable private Writer writer;
+    private int changes;
+    private boolean compacting;
+
+    public IpBanJournal(final Path listFile) {
+        this.listFile = listFile;
+        this.journalFile = listFile.resolveSibling(listFile.getFileName() + ".journal");
+        this.compactingFile = listFile.resolveSibling(listFile.getFileName() + ".journal.compacting");
+    }
+
+    /**
+     * Replays the journals on top of the loaded ban list, and compacts them
+     * into the ban list file if there were any changes.
+     *
+     * @param list The ban list accessor
+     * @param index The index of the ban list, not journaling yet
+     * @throws IOException If the journals could not be read or compacted
+     */
+    public void replay(final StoredUserListAccessor<String, IpBanListEntry> list, final IpBanIndex index) throws IOException {
+        final int replayed = this.replay(this.compactingFile, list, index) + this.replay(this.journalFile, list, index);
+        if (replayed > 0) {
+            // Still starting up, so there's no need to do this in the background
+            IpBanJournal.write(this.listFile, new ArrayList<>(index.values()));
+            Files.deleteIfExists(this.compactingFile);
+            Files.deleteIfExists(this.journalFile);
+        }
+    }
+
+    private int replay(final Path file, final StoredUserListAccessor<String, IpBanListEntry> list, final IpBanIndex index) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        int replayed = 0;
+        try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                final JsonObject change;
+                try {
+                    change = IpBanJournal.GSON.fromJson(line, JsonObject.class);
+                } catch (final JsonParseException e) {
+                    // Most likely a line cut off by a crash, which can only be the last
+                    SpongeCommon.getLogger().warn("Skipping unreadable line in the ban journal {}", file, e);
+                    continue;
+                }
+                if (change.has("add")) {
+                    final StoredUserEntry<String> entry = list.invoker$createEntry(change.getAsJsonObject("add"));
+                    final String user = ((StoredUserEntryAccessor<String>) entry).accessor$user();
+                    if (user != null) {
+                        index.put(list.invoker$getKeyForUser(user), (IpBanListEntry) entry);
+                    }
+                } else if (change.has("remove")) {
+                    index.remove(change.get("remove").getAsString());
+                }
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    synchronized void add(final IpBanListEntry entry) {
+        final JsonObject serialized = new JsonObject();
+        ((StoredUserEntryAccessor) entry).invoker$serialize(serialized);
+        final JsonObject change = new JsonObject();
+        change.add("add", serialized);
+        this.append(change);
+    }
+
+    synchronized void remove(final String key) {
+        final JsonObject change = new JsonObject();
+        change.addProperty("remove", key);
+        this.append(change);
+    }
+
+    private void append(final JsonObject change) {
+        try {
+            if (this.writer == null) {
+                this.writer = Files.newBufferedWriter(this.journalFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            }
+            this.writer.write(IpBanJournal.GSON.toJson(change));
+            this.writer.write('\n');
+            this.writer.flush();
+            this.changes++;
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Could not write to the ban journal {}", this.journalFile, e);
+        }
+    }
+
+    /**
+     * Compacts the journal into the ban list file in the background, if
+     * enough changes have been made since the last compaction.
+     *
+     * @param entries The entries of the ban list
+     */
+    public synchronized void compactIfNeeded(final Collection<IpBanListEntry> entries) {
+        if (this.compacting || this.changes < IpBanJournal.COMPACTION_THRESHOLD) {
+            return;
+        }
+        try {
+            if (this.writer != null) {
+                this.writer.close();
+                this.writer = null;
+            }
+            if (Files.exists(this.compactingFile)) {
+                // A previous compaction failed, its changes still have to be kept
+                Files.write(this.compactingFile, Files.readAllBytes(this.journalFile), StandardOpenOption.APPEND);
+                Files.delete(this.journalFile);
+            } else {
+                Files.move(this.journalFile, this.compactingFile);
+            }
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Could not start compacting the ban journal {}", this.journalFile, e);
+            return;
+        }
+        this.changes = 0;
+        this.compacting = true;
+        // Entries are immutable, so only the collection needs to be copied here
+        final List<IpBanListEntry> snapshot = new ArrayList<>(entries);
+        IpBanJournal.COMPACTOR.execute(() -> {
+            try {
+                IpBanJournal.write(this.listFile, snapshot);
+                Files.deleteIfExists(this.compactingFile);
+            } catch (final IOException e) {
+                SpongeCommon.getLogger().warn("Could not compact the ban journal into {}", this.listFile, e);
+            } finally {
+                synchronized (this) {
+                    this.compacting = false;
+                }
+            }
+        });
+    }
+
+    private static void write(final Path file, final List<IpBanListEntry> entries) throws IOException {
+        final JsonArray array = new JsonArray();
+        for (final IpBanListEntry entry : entries) {
+            final JsonObject serialized = new JsonObject();
+            ((StoredUserEntryAccessor) entry).invoker$serialize(serialized);
+            array.add(serialized);
+        }
+        final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (final BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            IpBanJournal.LIST_GSON.toJson(array, writer);
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
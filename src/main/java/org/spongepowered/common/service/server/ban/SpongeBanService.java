@@ -34,6 +34,7 @@
 import org.spongepowered.api.service.ban.BanTypes;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.players.IpBanListAccessor;
+import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
 import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.profile.SpongeGameProfile;
@@ -101,9 +102,14 @@ public Optional<Ban.Profile> getBanFor(final GameProfile profile) {
     @Override
     public Optional<Ban.IP> getBanFor(final InetAddress address) {
         final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
+        final String key = accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0)));
 
+        if (accessor.accessor$map() instanceof IpBanIndex) {
+            // Also matches ranges, and only expires the bans it comes across
+            return Optional.ofNullable((Ban.IP) ((IpBanIndex) accessor.accessor$map()).getBan(address, key));
+        }
         accessor.invoker$removeExpired();
-        return Optional.ofNullable((Ban.IP) accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0)))));
+        return Optional.ofNullable((Ban.IP) accessor.accessor$map().get(key));
     }
 
     @SuppressWarnings("unchecked")
@@ -119,10 +125,7 @@ public boolean isBanned(final GameProfile profile) {
     @SuppressWarnings("unchecked")
     @Override
     public boolean isBanned(final InetAddress address) {
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))));
+        return this.getBanFor(address).isPresent();
     }
 
     @SuppressWarnings("unchecked")
@@ -144,6 +147,7 @@ public boolean pardon(final InetAddress address) {
         return ban.isPresent() && this.removeBan(ban.get());
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public boolean removeBan(final Ban ban) {
         if (!this.hasBan(ban)) {
@@ -158,8 +162,8 @@ public boolean removeBan(final Ban ban) {
         } else if (ban.getType().equals(BanTypes.IP.get())) {
             Sponge.getEventManager().post(SpongeEventFactory.createPardonIpEvent(PhaseTracker.getCauseStackManager().getCurrentCause(), (Ban.IP) ban));
 
-            final InetSocketAddress inetSocketAddress = new InetSocketAddress(((Ban.IP) ban).getAddress(), 0);
-            UserListUtil.removeEntry(this.getIPBanList(), ((IpBanListAccessor) this.getIPBanList()).invoker$getIpFromAddress(inetSocketAddress));
+            // The entry knows its own key, which for ranges isn't the key of their address
+            UserListUtil.removeEntry(this.getIPBanList(), ((StoredUserEntryAccessor<String>) ban).accessor$user());
             return true;
         }
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.getType()));
@@ -26,6 +26,8 @@
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -34,12 +36,15 @@
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.profile.SpongeGameProfile;
+import org.spongepowered.common.util.UsernameCache;
 
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -48,22 +53,30 @@
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 public final class ServerUserProvider {
 
+    // Roughly the weight of a few thousand users with full inventories
+    private static final long MAX_CACHE_WEIGHT = 250_000;
+
     private final MinecraftServer server;
+    private final ExecutorService loaderExecutorService;
 
     // This is the important set - this tells us if a User file actually exists,
-    // it should mirror the filesystem.
-    private final Set<UUID> knownUUIDs = new HashSet<>();
+    // it should mirror the filesystem. It is filled off-thread, see indexFuture.
+    private final Set<UUID> knownUUIDs = ConcurrentHashMap.newKeySet();
     private final Cache<UUID, User> userCache;
+    private volatile CompletableFuture<Void> indexFuture = CompletableFuture.completedFuture(null);
 
     private final Map<String, MutableWatchEvent> watcherUpdateMap = new HashMap<>();
 
@@ -73,8 +86,22 @@ public final class ServerUserProvider {
     public ServerUserProvider(final Server server) {
         this.userCache = Caffeine.newBuilder()
                 .expireAfterAccess(1, TimeUnit.DAYS)
+                .maximumWeight(ServerUserProvider.MAX_CACHE_WEIGHT)
+                .<UUID, User>weigher((uuid, user) -> ((SpongeUser) user).getWeight())
+                // Runs on the thread that caused the eviction, which is the main thread for anything
+                // that loads user data. The listener must not touch the cache.
+                .executor(Runnable::run)
+                .removalListener((uuid, user, cause) -> {
+                    if (cause.wasEvicted() && user != null) {
+                        ((SpongeUser) user).evicted();
+                    }
+                })
                 .build();
         this.server = (MinecraftServer) server;
+        this.loaderExecutorService = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Async User Loader Thread")
+                .setDaemon(true)
+                .build());
     }
 
     void setupWatchers() {
@@ -125,33 +152,64 @@ void refreshFilesystemProfiles() {
         this.knownUUIDs.clear();
         this.userCache.invalidateAll();
 
+        // Listing hundreds of thousands of data files takes a while, build the index off-thread.
+        // Until it is done, lookups check the file of the requested user directly.
+        final Path directory = this.getSaveHandlerDirectory();
+        this.indexFuture = CompletableFuture.runAsync(() -> this.indexFilesystemProfiles(directory), this.loaderExecutorService);
+    }
+
+    private void indexFilesystemProfiles(final Path directory) {
         // Add all known profiles from the data files
-        final String[] uuids = this.getSaveHandler().getSeenPlayers();
-        for (final String playerUuid : uuids) {
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.dat")) {
+            for (final Path file : stream) {
+                final String name = file.getFileName().toString();
+                final String playerUuid = name.substring(0, name.length() - 4);
+
+                // If the filename contains another period, we can fail fast.
+                if (playerUuid.contains(".")) {
+                    continue;
+                }
 
-            // If the filename contains a period, we can fail fast. Vanilla code fixes the Strings that have ".dat" to strip that out
-            // before passing that back in getAvailablePlayerDat. It doesn't remove non ".dat" filenames from the list.
-            if (playerUuid.contains(".")) {
-                continue;
-            }
+                // At this point, we have a filename who has no extension. This doesn't mean it is actually a UUID. We trap the exception and ignore
+                // any filenames that fail the UUID check.
+                final UUID uuid;
+                try {
+                    uuid = UUID.fromString(playerUuid);
+                } catch (final Exception ex) {
+                    continue;
+                }
 
-            // At this point, we have a filename who has no extension. This doesn't mean it is actually a UUID. We trap the exception and ignore
-            // any filenames that fail the UUID check.
-            final UUID uuid;
-            try {
-                uuid = UUID.fromString(playerUuid);
-            } catch (final Exception ex) {
-                continue;
+                this.knownUUIDs.add(uuid);
             }
+        } catch (final IOException e) {
+            SpongeCommon.getLogger().warn("Could not list player data files in {}", directory, e);
+        }
+    }
 
-            this.knownUUIDs.add(uuid);
+    private boolean isKnown(final UUID uuid) {
+        if (this.knownUUIDs.contains(uuid)) {
+            return true;
+        }
+        if (this.indexFuture.isDone()) {
+            return false;
         }
+        return this.getPlayerDataFile(uuid) != null;
+    }
+
+    private void awaitIndex() {
+        this.indexFuture.join();
     }
 
     Optional<User> getUser(final String lastKnownName) {
         final com.mojang.authlib.GameProfile gameProfile = this.server.getProfileCache().get(lastKnownName);
         if (gameProfile == null) {
-            return Optional.empty();
+            // The profile cache forgets users after a while, the username cache keeps them
+            final UsernameCache usernameCache = ((SpongeServer) this.server).getUsernameCache();
+            final UUID uniqueId = usernameCache.getLastKnownUUID(lastKnownName);
+            if (uniqueId == null) {
+                return Optional.empty();
+            }
+            return this.getUser(new SpongeGameProfile(uniqueId, usernameCache.getLastKnownUsername(uniqueId)));
         }
         return this.getUser(SpongeGameProfile.of(gameProfile));
     }
@@ -163,7 +221,7 @@ Optional<User> getUser(final UUID uuid) {
 
     Optional<User> getUser(@Nullable final GameProfile profile) {
         this.pollFilesystemWatcher();
-        if (profile != null && this.knownUUIDs.contains(profile.getUniqueId())) {
+        if (profile != null && this.isKnown(profile.getUniqueId())) {
             // This is okay, the file exists.
             return Optional.of(this.getOrCreateUser(profile, false));
         }
@@ -199,6 +257,48 @@ User getOrCreateUser(final GameProfile profile, final boolean force) {
         return user;
     }
 
+    /**
+     * Gets the user with the given unique id, reading their player data off
+     * the main thread. The data is applied on the main thread before the
+     * future completes. Inventories stay serialized until they are accessed.
+     *
+     * @param uuid The unique id
+     * @return The user, once loaded
+     */
+    CompletableFuture<Optional<User>> loadUser(final UUID uuid) {
+        final Optional<User> user = this.getUser(uuid);
+        if (!user.isPresent()) {
+            return CompletableFuture.completedFuture(user);
+        }
+        final SpongeUser spongeUser = (SpongeUser) user.get();
+        if (spongeUser.isInitialized() || spongeUser.isOnline()) {
+            return CompletableFuture.completedFuture(user);
+        }
+        return CompletableFuture.supplyAsync(spongeUser::readPlayerData, this.loaderExecutorService)
+                .thenApplyAsync(compound -> {
+                    this.applyPlayerData(spongeUser, compound);
+                    return user;
+                }, this.server);
+    }
+
+    private void applyPlayerData(final SpongeUser user, @Nullable final CompoundTag compound) {
+        // The user may have been initialized on demand in the meantime
+        if (!user.isInitialized()) {
+            user.initialize(compound);
+        }
+    }
+
+    /**
+     * Weighs the given user again, as Caffeine only weighs entries when they
+     * are written. Called whenever a user is initialized, invalidated or
+     * marked dirty.
+     *
+     * @param user The user
+     */
+    void refreshWeight(final SpongeUser user) {
+        this.userCache.asMap().replace(user.getUniqueId(), user, user);
+    }
+
     boolean deleteUser(final UUID uuid) {
         if (this.deleteStoredPlayerData(uuid)) {
             this.userCache.invalidate(uuid);
@@ -209,11 +309,17 @@ boolean deleteUser(final UUID uuid) {
     }
 
     Stream<GameProfile> matchKnownProfiles(final String lowercaseName) {
-        return ((Server) this.server).getGameProfileManager().getCache().streamOfMatches(lowercaseName)
-                .filter(gameProfile -> this.knownUUIDs.contains(gameProfile.getUniqueId()));
+        this.awaitIndex();
+        final Map<UUID, GameProfile> matches = new HashMap<>();
+        ((SpongeServer) this.server).getUsernameCache().getMatchingUUIDs(lowercaseName)
+                .forEach((uniqueId, name) -> matches.put(uniqueId, new SpongeGameProfile(uniqueId, name)));
+        ((Server) this.server).getGameProfileManager().getCache().streamOfMatches(lowercaseName)
+                .forEach(gameProfile -> matches.putIfAbsent(gameProfile.getUniqueId(), gameProfile));
+        return matches.values().stream().filter(gameProfile -> this.knownUUIDs.contains(gameProfile.getUniqueId()));
     }
 
     Stream<GameProfile> streamAll() {
+        this.awaitIndex();
         final GameProfileCache cache = ((Server) this.server).getGameProfileManager().getCache();
         return this.knownUUIDs.stream().map(x -> cache.getById(x).orElseGet(() -> GameProfile.of(x)));
     }
@@ -228,6 +334,10 @@ private Path getPlayerDataFile(final UUID uniqueId) {
         return null;
     }
 
+    CompletableFuture<Stream<GameProfile>> streamAllAsync() {
+        return this.indexFuture.thenApply(v -> this.streamAll());
+    }
+
     private boolean deleteStoredPlayerData(final UUID uniqueId) {
         final Path dataFile = this.getPlayerDataFile(uniqueId);
         if (dataFile != null) {
@@ -31,12 +31,14 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.user.UserManager;
+import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.profile.SpongeGameProfile;
 
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,6 +63,17 @@ public Optional<User> get(final UUID uniqueId) {
         return this.serverUserProvider.getUser(uniqueId);
     }
 
+    /**
+     * Gets the user with the given unique id, reading their data from disk
+     * off the main thread. Inventories are only read once accessed.
+     *
+     * @param uniqueId The unique id
+     * @return The user, once loaded
+     */
+    public CompletableFuture<Optional<User>> loadAsync(final UUID uniqueId) {
+        return this.serverUserProvider.loadUser(checkNotNull(uniqueId, "uniqueId"));
+    }
+
     @Override
     public Optional<User> get(final String lastKnownName) {
         checkNotNull(lastKnownName, "lastKnownName");
@@ -92,6 +105,16 @@ public Stream<GameProfile> streamAll() {
         return this.serverUserProvider.streamAll();
     }
 
+    /**
+     * Streams all known profiles once the player data directory has been
+     * indexed, without blocking the caller until then.
+     *
+     * @return The profiles, once indexed
+     */
+    public CompletableFuture<Stream<GameProfile>> streamAllAsync() {
+        return this.serverUserProvider.streamAllAsync();
+    }
+
     @Override
     public boolean delete(final GameProfile profile) {
         return this.serverUserProvider.deleteUser(checkNotNull(profile, "profile").getUniqueId());
@@ -107,6 +130,10 @@ public Stream<GameProfile> streamOfMatches(final String lastKnownName) {
         return this.serverUserProvider.matchKnownProfiles(checkNotNull(lastKnownName, "lastKnownName").toLowerCase(Locale.ROOT));
     }
 
+    public void refreshWeight(final SpongeUser user) {
+        this.serverUserProvider.refreshWeight(user);
+    }
+
     private GameProfile ensureNonEmptyUUID(final GameProfile profile) {
         if (profile.getUniqueId().equals(SpongeGameProfile.EMPTY_UUID)) {
             final String name = profile.getName().orElse(null);
@@ -430,6 +430,7 @@ public static final class Chunk {
         public static final short XZ_MASK = 0xF;
         public static final short Y_SHORT_MASK = 0xFF;
         public static final int Y_INT_MASK = 0xFFFFFF;
+        public static final String CHUNK_DATA_LEVEL = "Level";
         public static final String CHUNK_DATA_SECTIONS = "Sections";
     }
 
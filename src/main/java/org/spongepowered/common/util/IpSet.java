@@ -46,6 +46,14 @@ private IpSet(final InetAddress addr, final int prefixLen) {
         this.prefixLen = prefixLen;
     }
 
+    public InetAddress getAddress() {
+        return this.addr;
+    }
+
+    public int getPrefixLength() {
+        return this.prefixLen;
+    }
+
     @Override
     public boolean apply(final InetAddress input) {
         final byte[] address = input.getAddress();
@@ -82,13 +90,10 @@ public static IpSet fromAddrPrefix(final InetAddress address, final int prefixLe
      */
     public static IpSet fromCidr(final String spec) {
         final String addrString;
-        final int prefixLen;
         final int slashIndex = checkNotNull(spec, "spec").lastIndexOf("/");
         if (slashIndex == -1) {
-            prefixLen = 32;
             addrString = spec;
         } else {
-            prefixLen = Integer.parseInt(spec.substring(slashIndex + 1));
             addrString = spec.substring(0, slashIndex);
         }
 
@@ -99,6 +104,8 @@ public static IpSet fromCidr(final String spec) {
             throw new IllegalArgumentException(addrString + " does not contain a valid IP address");
         }
 
+        // A single address if no prefix is given, IPv6 addresses have more than 32 bits
+        final int prefixLen = slashIndex == -1 ? IpSet.getMaxPrefixLength(addr) : Integer.parseInt(spec.substring(slashIndex + 1));
         return IpSet.fromAddrPrefix(addr, prefixLen);
     }
 
@@ -0,0 +1,136 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+
+import javax.annotation.Nullable;
+
+/**
+ * A binary trie of {@link IpSet}s, answering which of them most specifically
+ * contains an address in time proportional to the prefix length, regardless
+ * of how many sets are held.
+ *
+ * <p>Not thread safe.</p>
+ *
+ * @param <V> The value type
+ */
+public final class IpTrie<V> {
+
+    private Node<V> ipv4 = new Node<>();
+    private Node<V> ipv6 = new Node<>();
+
+    public void put(final IpSet set, final V value) {
+        final byte[] address = set.getAddress().getAddress();
+        Node<V> node = this.root(set.getAddress());
+        for (int i = 0; i < set.getPrefixLength(); i++) {
+            final int bit = IpTrie.bit(address, i);
+            if (node.children[bit] == null) {
+                node.children[bit] = new Node<>();
+            }
+            node = node.children[bit];
+        }
+        node.value = value;
+    }
+
+    /**
+     * Removes the value for the given set, if it is the given value.
+     *
+     * @param set The set
+     * @param value The expected value
+     */
+    public void remove(final IpSet set, final V value) {
+        final byte[] address = set.getAddress().getAddress();
+        final int length = set.getPrefixLength();
+        @SuppressWarnings("unchecked")
+        final Node<V>[] path = new Node[length + 1];
+        Node<V> node = this.root(set.getAddress());
+        path[0] = node;
+        for (int i = 0; i < length; i++) {
+            node = node.children[IpTrie.bit(address, i)];
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        if (!value.equals(node.value)) {
+            return;
+        }
+        node.value = null;
+        // Prune the branch that no longer leads anywhere
+        for (int i = length; i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children[IpTrie.bit(address, i - 1)] = null;
+        }
+    }
+
+    /**
+     * Gets the value of the most specific set containing the address.
+     *
+     * @param input The address
+     * @return The value, or null if no set contains the address
+     */
+    @Nullable
+    public V getMostSpecific(final InetAddress input) {
+        final byte[] address = input.getAddress();
+        final int length = address.length * 8;
+        Node<V> node = this.root(input);
+        V value = node.value;
+        for (int i = 0; i < length; i++) {
+            node = node.children[IpTrie.bit(address, i)];
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                value = node.value;
+            }
+        }
+        return value;
+    }
+
+    public void clear() {
+        this.ipv4 = new Node<>();
+        this.ipv6 = new Node<>();
+    }
+
+    private Node<V> root(final InetAddress address) {
+        return address instanceof Inet4Address ? this.ipv4 : this.ipv6;
+    }
+
+    private static int bit(final byte[] address, final int index) {
+        return (address[index >> 3] >> (7 - (index & 7))) & 1;
+    }
+
+    private static final class Node<V> {
+
+        @SuppressWarnings("unchecked")
+        final Node<V>[] children = new Node[2];
+        @Nullable V value;
+
+        boolean isEmpty() {
+            return this.value == null && this.children[0] == null && this.children[1] == null;
+        }
+    }
+}
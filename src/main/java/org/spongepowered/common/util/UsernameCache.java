@@ -26,6 +26,8 @@
 
 import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonSyntaxException;
@@ -35,27 +37,47 @@
 
 import javax.annotation.Nullable;
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class UsernameCache {
 
     private static final Charset CHARSET = Charsets.UTF_8;
+    private static final Type TYPE = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Username Cache Writer")
+            .setDaemon(true)
+            .build());
 
     private final Map<UUID, String> usernameByUniqueId;
+    // Lowercase names to every unique id last known to use them, the most recent
+    // one last. Sorted for prefix searches.
+    private final ConcurrentSkipListMap<String, List<UUID>> uniqueIdsByLowercaseName;
     private final Gson gson;
     private final Path cacheFile;
-    private boolean dirty = false;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean saveQueued = new AtomicBoolean();
 
     public UsernameCache(final Server server) {
         this.usernameByUniqueId = new ConcurrentHashMap<>();
+        this.uniqueIdsByLowercaseName = new ConcurrentSkipListMap<>();
         this.gson = new GsonBuilder().setPrettyPrinting().create();
         this.cacheFile = server.getGame().getGameDirectory().resolve("usernamecache.json");
     }
@@ -64,19 +86,24 @@ public void setUsername(final UUID uniqueId, final String username) {
         Preconditions.checkNotNull(uniqueId);
         Preconditions.checkNotNull(username);
 
-        if (username.equals(this.usernameByUniqueId.get(uniqueId))) {
+        final String previous = this.usernameByUniqueId.put(uniqueId, username);
+        if (username.equals(previous)) {
             return;
         }
-
-        this.usernameByUniqueId.put(uniqueId, username);
-        this.dirty = true;
+        if (previous != null) {
+            this.unindex(previous, uniqueId);
+        }
+        this.index(username, uniqueId);
+        this.dirty.set(true);
     }
 
     public boolean removeUsername(final UUID uniqueId) {
         Preconditions.checkNotNull(uniqueId);
 
-        if (this.usernameByUniqueId.remove(uniqueId) != null) {
-            this.dirty = true;
+        final String previous = this.usernameByUniqueId.remove(uniqueId);
+        if (previous != null) {
+            this.unindex(previous, uniqueId);
+            this.dirty.set(true);
             return true;
         }
 
@@ -90,17 +117,43 @@ public String getLastKnownUsername(final UUID uniqueId) {
         return this.usernameByUniqueId.get(uniqueId);
     }
 
+    /**
+     * Gets the unique id of the user that was most recently seen with the
+     * given name, ignoring case.
+     *
+     * @param username The name
+     * @return The unique id, if any user is known by that name
+     */
     @Nullable
     public UUID getLastKnownUUID(final String username) {
         Preconditions.checkNotNull(username);
 
-        for (Map.Entry<UUID, String> mapEntry : this.usernameByUniqueId.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
+        final List<UUID> uniqueIds = this.uniqueIdsByLowercaseName.get(username.toLowerCase(Locale.ROOT));
+        return uniqueIds == null ? null : uniqueIds.get(uniqueIds.size() - 1);
+    }
+
+    /**
+     * Gets all users whose last known name starts with the given prefix,
+     * ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The unique ids of the matching users and their last known names
+     */
+    public Map<UUID, String> getMatchingUUIDs(final String prefix) {
+        Preconditions.checkNotNull(prefix);
+
+        final String lowercasePrefix = prefix.toLowerCase(Locale.ROOT);
+        final Map<UUID, String> matches = new HashMap<>();
+        for (final List<UUID> uniqueIds : this.uniqueIdsByLowercaseName.subMap(lowercasePrefix, true,
+                lowercasePrefix + Character.MAX_VALUE, true).values()) {
+            for (final UUID uniqueId : uniqueIds) {
+                final String username = this.usernameByUniqueId.get(uniqueId);
+                if (username != null) {
+                    matches.put(uniqueId, username);
+                }
             }
         }
-
-        return null;
+        return matches;
     }
 
     public boolean containsUUID(final UUID uniqueId) {
@@ -115,14 +168,18 @@ public Map<UUID, String> getAll() {
 
     public void load() {
         this.usernameByUniqueId.clear();
+        this.uniqueIdsByLowercaseName.clear();
 
         if (Files.notExists(this.cacheFile)) {
             return;
         }
 
         try (final BufferedReader reader = Files.newBufferedReader(this.cacheFile, UsernameCache.CHARSET)) {
-            final Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-            this.usernameByUniqueId.putAll(this.gson.fromJson(reader, type));
+            final Map<UUID, String> loaded = this.gson.fromJson(reader, UsernameCache.TYPE);
+            if (loaded != null) {
+                this.usernameByUniqueId.putAll(loaded);
+                loaded.forEach((uniqueId, username) -> this.index(username, uniqueId));
+            }
         } catch (final JsonSyntaxException e) {
             SpongeCommon.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
             this.deleteCacheFile();
@@ -132,6 +189,34 @@ public void load() {
         }
     }
 
+    private void index(final String username, final UUID uniqueId) {
+        this.uniqueIdsByLowercaseName.compute(username.toLowerCase(Locale.ROOT), (name, uniqueIds) -> {
+            if (uniqueIds == null) {
+                return ImmutableList.of(uniqueId);
+            }
+            final List<UUID> updated = UsernameCache.without(uniqueIds, uniqueId);
+            updated.add(uniqueId);
+            return ImmutableList.copyOf(updated);
+        });
+    }
+
+    private void unindex(final String username, final UUID uniqueId) {
+        this.uniqueIdsByLowercaseName.computeIfPresent(username.toLowerCase(Locale.ROOT), (name, uniqueIds) -> {
+            final List<UUID> updated = UsernameCache.without(uniqueIds, uniqueId);
+            return updated.isEmpty() ? null : ImmutableList.copyOf(updated);
+        });
+    }
+
+    private static List<UUID> without(final List<UUID> uniqueIds, final UUID uniqueId) {
+        final List<UUID> remaining = new ArrayList<>(uniqueIds.size() + 1);
+        for (final UUID other : uniqueIds) {
+            if (!other.equals(uniqueId)) {
+                remaining.add(other);
+            }
+        }
+        return remaining;
+    }
+
     private void deleteCacheFile() {
         try {
             Files.deleteIfExists(this.cacheFile);
@@ -140,17 +225,41 @@ private void deleteCacheFile() {
         }
     }
 
+    /**
+     * Writes the cache to disk in the background if it changed since the last
+     * write. Changes made while a write is queued are included in it.
+     */
     public void save() {
-        if (!this.dirty) {
+        if (!this.dirty.get() || !this.saveQueued.compareAndSet(false, true)) {
             return;
         }
+        UsernameCache.WRITER.execute(() -> {
+            this.saveQueued.set(false);
+            this.write();
+        });
+    }
 
+    /**
+     * Writes the cache to disk on the calling thread if it changed, waiting
+     * for any write in progress.
+     */
+    public void saveNow() {
+        this.write();
+    }
+
+    private synchronized void write() {
+        if (!this.dirty.getAndSet(false)) {
+            return;
+        }
+        final Path tempFile = this.cacheFile.resolveSibling(this.cacheFile.getFileName() + ".tmp");
         try {
-            // Make sure we don't save when another thread is still saving
-            final String serialized = this.gson.toJson(this.usernameByUniqueId);
-            Files.write(this.cacheFile, serialized.getBytes(UsernameCache.CHARSET));
-            this.dirty = false;
+            // The map may be written to while it is serialized, anything missed is dirty again
+            try (final BufferedWriter writer = Files.newBufferedWriter(tempFile, UsernameCache.CHARSET)) {
+                this.gson.toJson(this.usernameByUniqueId, UsernameCache.TYPE, writer);
+            }
+            Files.move(tempFile, this.cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (final IOException e) {
+            this.dirty.set(true);
             SpongeCommon.getLogger().error("Failed to save username cache to file!", e);
         }
     }
@@ -0,0 +1,275 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A mutable palette keeping its entries in arrays indexed by id. Values are
+ * resolved against the registry once, when they are assigned, and looked up
+ * by identity, falling back to their {@link PaletteReference} for values
+ * that are equal but not the same instance.
+ */
+public final class ArrayMutablePalette<T, R> implements Palette.Mutable<T, R> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 64;
+
+    private final PaletteType<T, R> paletteType;
+    private final Registry<R> registry;
+    private final RegistryType<R> registryType;
+    private final Reference2IntOpenHashMap<T> idsByValue;
+    private final Object2IntOpenHashMap<PaletteReference<T, R>> idsByReference;
+    private final BitSet allocation;
+    private PaletteReference<T, R>[] references;
+    private @Nullable Object[] values;
+    private int maxId = 0;
+
+    public ArrayMutablePalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType) {
+        this(paletteType, registry, registryType, ArrayMutablePalette.DEFAULT_ALLOCATION_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ArrayMutablePalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
+        final int expectedSize
+    ) {
+        this.paletteType = paletteType;
+        this.registry = registry;
+        this.registryType = registryType;
+        this.idsByValue = new Reference2IntOpenHashMap<>(expectedSize);
+        this.idsByValue.defaultReturnValue(-1);
+        this.idsByReference = new Object2IntOpenHashMap<>(expectedSize);
+        this.idsByReference.defaultReturnValue(-1);
+        this.allocation = new BitSet(expectedSize);
+        this.references = new PaletteReference[Math.max(1, expectedSize)];
+        this.values = new Object[this.references.length];
+    }
+
+    /**
+     * Creates a palette keeping the given ids, resolving every reference once.
+     *
+     * @param paletteType The palette type
+     * @param registry The registry to resolve against
+     * @param registryType The registry type
+     * @param references The references by id
+     */
+    public ArrayMutablePalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
+        final Map<Integer, PaletteReference<T, R>> references
+    ) {
+        this(paletteType, registry, registryType, references.size());
+        references.forEach((id, ref) -> this.assignInternal(id, ref, this.paletteType.getResolver().apply(ref.value(), this.registry).orElse(null)));
+    }
+
+    @Override
+    public PaletteType<T, R> getType() {
+        return this.paletteType;
+    }
+
+    @Override
+    public int getHighestId() {
+        return this.maxId;
+    }
+
+    private int find(final T state) {
+        final int id = this.idsByValue.getInt(state);
+        if (id != -1) {
+            return id;
+        }
+        final int byReference = this.idsByReference.getInt(ArrayMutablePalette.createPaletteReference(state, this.paletteType, this.registry));
+        if (byReference != -1) {
+            this.idsByValue.put(state, byReference);
+        }
+        return byReference;
+    }
+
+    @Override
+    public OptionalInt get(final T state) {
+        final int id = this.find(state);
+        return id == -1 ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    @Override
+    public int getOrAssign(final T state) {
+        final int id = this.find(state);
+        if (id != -1) {
+            return id;
+        }
+        final int next = this.allocation.nextClearBit(0);
+        this.assignInternal(next, ArrayMutablePalette.createPaletteReference(state, this.paletteType, this.registry), state);
+        return next;
+    }
+
+    public int assign(final T state, final int id) {
+        this.assignInternal(id, ArrayMutablePalette.createPaletteReference(state, this.paletteType, this.registry), state);
+        return id;
+    }
+
+    private void assignInternal(final int id, final PaletteReference<T, R> ref, final @Nullable T value) {
+        if (id >= this.references.length) {
+            final int length = Math.max(id + 1, this.references.length * 2);
+            this.references = Arrays.copyOf(this.references, length);
+            this.values = Arrays.copyOf(this.values, length);
+        }
+        final @Nullable PaletteReference<T, R> previous = this.references[id];
+        if (previous != null) {
+            this.unassign(id, previous);
+        }
+        if (this.maxId < id) {
+            this.maxId = id;
+        }
+        this.allocation.set(id);
+        this.references[id] = ref;
+        this.values[id] = value;
+        this.idsByReference.put(ref, id);
+        if (value != null) {
+            this.idsByValue.put(value, id);
+        }
+    }
+
+    private void unassign(final int id, final PaletteReference<T, R> ref) {
+        this.idsByReference.removeInt(ref);
+        this.idsByValue.reference2IntEntrySet().removeIf(entry -> entry.getIntValue() == id);
+        this.references[id] = null;
+        this.values[id] = null;
+        this.allocation.clear(id);
+        if (id == this.maxId) {
+            this.maxId = Math.max(0, this.allocation.previousSetBit(id));
+        }
+    }
+
+    @Override
+    public Optional<PaletteReference<T, R>> get(final int id) {
+        if (id < 0 || id >= this.references.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.references[id]);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        if (id < 0 || id >= this.references.length) {
+            return Optional.empty();
+        }
+        final @Nullable T value = (T) this.values[id];
+        if (value != null) {
+            return Optional.of(value);
+        }
+        final @Nullable PaletteReference<T, R> ref = this.references[id];
+        if (ref == null) {
+            return Optional.empty();
+        }
+        // Not in our registry, this is the slow path
+        return Objects.requireNonNull(holder, "RegistryHolder cannot be null")
+            .findRegistry(ref.registry())
+            .flatMap(reg -> this.paletteType.getResolver().apply(ref.value(), reg));
+    }
+
+    @Override
+    public boolean remove(final T state) {
+        final int id = this.find(state);
+        if (id == -1) {
+            return false;
+        }
+        this.unassign(id, this.references[id]);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<T> stream() {
+        final Object[] values = Arrays.copyOf(this.values, this.maxId + 1);
+        return Arrays.stream(values)
+            .filter(Objects::nonNull)
+            .map(value -> (T) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<Map.Entry<T, Integer>> streamWithIds() {
+        final Object[] values = Arrays.copyOf(this.values, this.maxId + 1);
+        return IntStream.range(0, values.length)
+            .filter(id -> values[id] != null)
+            .mapToObj(id -> new AbstractMap.SimpleEntry<>((T) values[id], id));
+    }
+
+    @Override
+    public Immutable<T, R> asImmutable() {
+        final BiMap<Integer, PaletteReference<T, R>> ids = HashBiMap.create(this.idsByReference.size());
+        for (int id = this.allocation.nextSetBit(0); id >= 0; id = this.allocation.nextSetBit(id + 1)) {
+            ids.put(id, this.references[id]);
+        }
+        return new ImmutableBimapPalette<>(this.paletteType, this.registry, this.registryType, ids);
+    }
+
+    @NonNull
+    static <T, R> PaletteReference<T, R> createPaletteReference(
+        final T state,
+        final PaletteType<T, R> paletteType,
+        final Registry<R> registry
+    ) {
+        final String string = paletteType.getStringifier().apply(registry, state);
+        return PaletteReference.byString(registry.type(), string);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final ArrayMutablePalette<?, ?> that = (ArrayMutablePalette<?, ?>) o;
+        return this.maxId == that.maxId &&
+            this.paletteType.equals(that.paletteType) &&
+            Arrays.equals(Arrays.copyOf(this.references, this.maxId + 1), Arrays.copyOf(that.references, that.maxId + 1));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.paletteType, this.maxId, Arrays.hashCode(Arrays.copyOf(this.references, this.maxId + 1)));
+    }
+}
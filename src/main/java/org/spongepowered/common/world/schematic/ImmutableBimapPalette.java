@@ -84,7 +84,7 @@ public int getHighestId() {
 
     @Override
     public OptionalInt get(final T state) {
-        final PaletteReference<T, R> ref = MutableBimapPalette.createPaletteReference(state, this.paletteType, this.registry);
+        final PaletteReference<T, R> ref = ArrayMutablePalette.createPaletteReference(state, this.paletteType, this.registry);
         final Integer value = this.idsr.get(ref);
         if (value == null) {
             return OptionalInt.empty();
@@ -119,7 +119,7 @@ public Stream<Map.Entry<T, Integer>> streamWithIds() {
 
     @Override
     public Mutable<T, R> asMutable(final RegistryHolder holder) {
-        return new MutableBimapPalette<>(this.paletteType, holder.registry(this.registryType), this.registryType, this.idsr);
+        return new ArrayMutablePalette<>(this.paletteType, holder.registry(this.registryType), this.registryType, this.ids);
     }
 
     @Override
@@ -48,7 +48,7 @@ public SpongePaletteType(
 
     @Override
     public Palette<T, R> create(final RegistryHolder holder, final RegistryType<R> registryType) {
-        return new MutableBimapPalette<>(this, holder.registry(registryType), registryType);
+        return new ArrayMutablePalette<>(this, holder.registry(registryType), registryType);
     }
 
     @Override
@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * Copies, moves and deletes world directories on a dedicated pool of I/O
+ * threads. Directories are walked once up front, after which every file
+ * (in practice, every region file) is handled as its own task.
+ */
+public final class WorldFiles {
+
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+            new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - World IO Thread %d")
+                    .setDaemon(true)
+                    .build());
+
+    /**
+     * Receives the progress of an operation, in bytes. May be called from
+     * any I/O thread.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        void onProgress(long completedBytes, long totalBytes);
+    }
+
+    public static Executor executor() {
+        return WorldFiles.IO_EXECUTOR;
+    }
+
+    /**
+     * Copies a directory tree.
+     *
+     * @param source The directory to copy
+     * @param target The directory to copy to
+     * @param filter Whether a path should be copied, skipping the whole subtree for directories
+     * @param listener The progress listener
+     * @return A future completed once every file is copied
+     */
+    public static CompletableFuture<Void> copy(final Path source, final Path target, final BiPredicate<Path, BasicFileAttributes> filter,
+            @Nullable final ProgressListener listener) {
+        // The target may live inside the source, never copy it into itself
+        final BiPredicate<Path, BasicFileAttributes> sourceFilter = (path, attrs) -> !path.equals(target) && filter.test(path, attrs);
+        return CompletableFuture.supplyAsync(() -> WorldFiles.scan(source, sourceFilter, dir -> Files.createDirectories(
+                target.resolve(source.relativize(dir)))), WorldFiles.IO_EXECUTOR)
+                .thenCompose(plan -> plan.run(file -> Files.copy(file, target.resolve(source.relativize(file)),
+                        StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING), listener))
+                .handle((v, t) -> t)
+                .<Void>thenCompose(failure -> {
+                    if (failure == null) {
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    // Don't leave a partial copy behind, only fail once it is gone
+                    return WorldFiles.delete(target, null).<Void>handle((v, deleteFailure) -> {
+                        if (deleteFailure != null) {
+                            failure.addSuppressed(deleteFailure);
+                        }
+                        throw failure instanceof CompletionException ? (CompletionException) failure : new CompletionException(failure);
+                    });
+                });
+    }
+
+    /**
+     * Moves a directory tree. This is a rename where the filesystem allows
+     * it and falls back to a copy and delete across filesystems.
+     *
+     * @param source The directory to move
+     * @param target The directory to move to
+     * @param listener The progress listener
+     * @return A future completed once the directory is moved
+     */
+    public static CompletableFuture<Void> move(final Path source, final Path target, @Nullable final ProgressListener listener) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (final AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldFiles.IO_EXECUTOR).thenCompose(moved -> {
+            if (moved) {
+                if (listener != null) {
+                    listener.onProgress(1, 1);
+                }
+                return CompletableFuture.completedFuture(null);
+            }
+            return WorldFiles.copy(source, target, (path, attrs) -> true, listener)
+                    .thenCompose(v -> WorldFiles.delete(source, null));
+        });
+    }
+
+    /**
+     * Deletes a directory tree.
+     *
+     * @param directory The directory to delete
+     * @param listener The progress listener
+     * @return A future completed once the directory is gone
+     */
+    public static CompletableFuture<Void> delete(final Path directory, @Nullable final ProgressListener listener) {
+        return CompletableFuture.supplyAsync(() -> Files.exists(directory) ? WorldFiles.scan(directory, (path, attrs) -> true, dir -> {}) : null,
+                WorldFiles.IO_EXECUTOR)
+                .thenCompose(plan -> {
+                    if (plan == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return plan.run(Files::deleteIfExists, listener).thenRunAsync(() -> {
+                        // Deepest directories first, they are empty by now
+                        for (int i = plan.directories.size() - 1; i >= 0; i--) {
+                            try {
+                                Files.deleteIfExists(plan.directories.get(i));
+                            } catch (final IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        }
+                    }, WorldFiles.IO_EXECUTOR);
+                });
+    }
+
+    private static Plan scan(final Path root, final BiPredicate<Path, BasicFileAttributes> filter, final PathAction directoryAction) {
+        final Plan plan = new Plan();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(root) && !filter.test(dir, attrs)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    directoryAction.apply(dir);
+                    plan.directories.add(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    if (filter.test(file, attrs)) {
+                        plan.files.add(file);
+                        plan.sizes.add(attrs.size());
+                        plan.totalBytes += attrs.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return plan;
+    }
+
+    @FunctionalInterface
+    private interface PathAction {
+
+        void apply(Path path) throws IOException;
+    }
+
+    private static final class Plan {
+
+        final List<Path> directories = new ArrayList<>();
+        final List<Path> files = new ArrayList<>();
+        final List<Long> sizes = new ArrayList<>();
+        long totalBytes;
+
+        CompletableFuture<Void> run(final PathAction action, @Nullable final ProgressListener listener) {
+            final AtomicLong completedBytes = new AtomicLong();
+            final CompletableFuture<?>[] tasks = new CompletableFuture<?>[this.files.size()];
+            for (int i = 0; i < tasks.length; i++) {
+                final Path file = this.files.get(i);
+                final long size = this.sizes.get(i);
+                tasks[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        action.apply(file);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    final long completed = completedBytes.addAndGet(size);
+                    if (listener != null) {
+                        listener.onProgress(completed, this.totalBytes);
+                    }
+                }, WorldFiles.IO_EXECUTOR);
+            }
+            return CompletableFuture.allOf(tasks);
+        }
+    }
+
+    private WorldFiles() {
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntMaps;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tracks the creator and notifier of block positions within a single chunk.
+ *
+ * <p>Players are stored once per chunk in a palette. Only tracked positions
+ * are stored, in a primitive map from the chunk local position packed into a
+ * short ({@code y << 8 | z << 4 | x}) to a packed int of palette indices: the
+ * creator in the upper 16 bits and the notifier in the lower 16 bits, both
+ * offset by one so that {@code 0} means untracked. Lookups therefore neither
+ * box the position nor allocate.</p>
+ */
+public final class ChunkPlayerTracker {
+
+    private static final int HEIGHT = 256;
+    private static final int MAX_PLAYERS = 0xFFFF;
+    private static final int UNTRACKED = 0;
+
+    private final Short2IntMap positions = new Short2IntOpenHashMap();
+    private final List<UUID> players = new ArrayList<>();
+    private final Object2IntMap<UUID> playerIndices = new Object2IntOpenHashMap<>();
+
+    public ChunkPlayerTracker() {
+        this.positions.defaultReturnValue(ChunkPlayerTracker.UNTRACKED);
+        this.playerIndices.defaultReturnValue(-1);
+    }
+
+    public boolean isEmpty() {
+        return this.positions.isEmpty();
+    }
+
+    @Nullable
+    public UUID getCreator(final BlockPos pos) {
+        return this.getPlayer(this.getPacked(pos) >>> 16);
+    }
+
+    @Nullable
+    public UUID getNotifier(final BlockPos pos) {
+        return this.getPlayer(this.getPacked(pos) & 0xFFFF);
+    }
+
+    /**
+     * Sets the player of the given type for a block position.
+     *
+     * @param pos The block position
+     * @param type The tracker type
+     * @param uniqueId The player, or null to remove it
+     * @return True if the tracked data changed
+     */
+    public boolean set(final BlockPos pos, final PlayerTracker.Type type, @Nullable final UUID uniqueId) {
+        final int y = pos.getY();
+        if (y < 0 || y >= ChunkPlayerTracker.HEIGHT) {
+            return false;
+        }
+        final int paletteId;
+        if (uniqueId == null) {
+            paletteId = ChunkPlayerTracker.UNTRACKED;
+        } else {
+            final int index = this.getOrCreateIndex(uniqueId);
+            if (index == -1) {
+                return false;
+            }
+            paletteId = index + 1;
+        }
+        final short key = ChunkPlayerTracker.key(pos.getX(), y, pos.getZ());
+        final int previous = this.positions.get(key);
+        final int packed = type == PlayerTracker.Type.CREATOR
+            ? (paletteId << 16) | (previous & 0xFFFF)
+            : (previous & 0xFFFF0000) | paletteId;
+        if (packed == previous) {
+            return false;
+        }
+        if (packed == ChunkPlayerTracker.UNTRACKED) {
+            this.positions.remove(key);
+        } else {
+            this.positions.put(key, packed);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the tracked positions to the given compound as two packed long
+     * arrays, the player palette as most/least significant bit pairs and the
+     * positions as {@code (y << 8 | z << 4 | x) << 32 | packed}. Players that
+     * no longer own any position are left out of the written palette.
+     *
+     * @param compound The compound to write to
+     */
+    public void writeTo(final CompoundTag compound) {
+        // Palette ids as written, by palette id in memory
+        final int[] remapped = new int[this.players.size() + 1];
+        final List<UUID> written = new ArrayList<>();
+        final long[] positions = new long[this.positions.size()];
+        int next = 0;
+        for (final Short2IntMap.Entry entry : Short2IntMaps.fastIterable(this.positions)) {
+            final int packed = entry.getIntValue();
+            final int creator = this.remap(packed >>> 16, remapped, written);
+            final int notifier = this.remap(packed & 0xFFFF, remapped, written);
+            positions[next++] = ((long) (entry.getShortKey() & 0xFFFF) << 32) | ((long) creator << 16 | notifier);
+        }
+        final long[] playerTable = new long[written.size() * 2];
+        for (int i = 0; i < written.size(); i++) {
+            final UUID uniqueId = written.get(i);
+            playerTable[i * 2] = uniqueId.getMostSignificantBits();
+            playerTable[i * 2 + 1] = uniqueId.getLeastSignificantBits();
+        }
+        compound.putLongArray(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE, playerTable);
+        compound.putLongArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
+    }
+
+    public void readFrom(final CompoundTag compound) {
+        final long[] playerTable = compound.getLongArray(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE);
+        for (int i = 0; i + 1 < playerTable.length; i += 2) {
+            this.getOrCreateIndex(new UUID(playerTable[i], playerTable[i + 1]));
+        }
+        final int playerCount = this.players.size();
+        for (final long entry : compound.getLongArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE)) {
+            final long position = entry >>> 32;
+            final int packed = (int) entry;
+            if (position > 0xFFFF || packed == ChunkPlayerTracker.UNTRACKED
+                || (packed >>> 16) > playerCount || (packed & 0xFFFF) > playerCount) {
+                continue;
+            }
+            this.positions.put((short) position, packed);
+        }
+    }
+
+    private int getPacked(final BlockPos pos) {
+        final int y = pos.getY();
+        if (y < 0 || y >= ChunkPlayerTracker.HEIGHT) {
+            return ChunkPlayerTracker.UNTRACKED;
+        }
+        return this.positions.get(ChunkPlayerTracker.key(pos.getX(), y, pos.getZ()));
+    }
+
+    @Nullable
+    private UUID getPlayer(final int paletteId) {
+        return paletteId == ChunkPlayerTracker.UNTRACKED ? null : this.players.get(paletteId - 1);
+    }
+
+    private int getOrCreateIndex(final UUID uniqueId) {
+        int index = this.playerIndices.getInt(uniqueId);
+        if (index == -1) {
+            if (this.players.size() >= ChunkPlayerTracker.MAX_PLAYERS) {
+                return -1;
+            }
+            index = this.players.size();
+            this.players.add(uniqueId);
+            this.playerIndices.put(uniqueId, index);
+        }
+        return index;
+    }
+
+    private int remap(final int paletteId, final int[] remapped, final List<UUID> written) {
+        if (paletteId == ChunkPlayerTracker.UNTRACKED) {
+            return ChunkPlayerTracker.UNTRACKED;
+        }
+        int writtenId = remapped[paletteId];
+        if (writtenId == ChunkPlayerTracker.UNTRACKED) {
+            written.add(this.players.get(paletteId - 1));
+            writtenId = written.size();
+            remapped[paletteId] = writtenId;
+        }
+        return writtenId;
+    }
+
+    private static short key(final int x, final int y, final int z) {
+        return (short) (y << 8 | (z & 15) << 4 | (x & 15));
+    }
+}
@@ -25,11 +25,14 @@
 package org.spongepowered.common.world.storage;
 
 
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.data.persistence.Queries;
 import org.spongepowered.common.SpongeCommon;
-import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.data.persistence.NBTStreams;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 
@@ -51,11 +54,13 @@
 
 import javax.annotation.Nullable;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 
 public final class SpongePlayerDataManager {
 
     private static final String SPONGE_DATA = "sponge";
+    // Only what SpongePlayerDataBuilder reads, anything else in the file is skipped
+    private static final List<DataQuery> PLAYER_DATA_QUERIES = ImmutableList.of(Queries.CONTENT_VERSION, Constants.Entity.Player.UUID,
+        Constants.Sponge.PlayerData.PLAYER_DATA_JOIN, Constants.Sponge.PlayerData.PLAYER_DATA_LAST);
     private final Server server;
     private final Map<UUID, SpongePlayerData> playerDataByUniqueId;
     @org.checkerframework.checker.nullness.qual.Nullable private Path playersDirectory = null;
@@ -81,19 +86,18 @@ public void load() {
             }
             for (final Path playerFile : playerFiles) {
                 if (Files.isReadable(playerFile)) {
-                    final CompoundTag compound;
+                    final DataContainer container;
 
                     try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = NbtIo.readCompressed(stream);
+                        container = NBTStreams.readCompressed(stream, SpongePlayerDataManager.PLAYER_DATA_QUERIES);
                     } catch (final Exception e) {
                         throw new RuntimeException("Failed to decompress playerdata for playerfile " + playerFile, e);
                     }
 
-                    if (compound.isEmpty()) {
+                    if (container.isEmpty()) {
                         throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
                     }
 
-                    final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
                     final SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
                     this.playerDataByUniqueId.put(data.getUniqueId(), data);
                 }
@@ -147,17 +151,13 @@ public void saveSpongePlayerData(final UUID uniqueId) {
 
         @Nullable final SpongePlayerData data = this.playerDataByUniqueId.get(uniqueId);
         if (data != null) {
-            this.saveFile(uniqueId.toString(), this.createCompoundFor(data));
+            this.saveFile(uniqueId.toString(), data.toContainer());
         } else {
             SpongeCommon.getLogger().error("Couldn't find a player data for the uuid: " + uniqueId.toString());
         }
     }
 
-    private CompoundTag createCompoundFor(final SpongePlayerData data) {
-        return NBTTranslator.INSTANCE.translate(data.toContainer());
-    }
-
-    private void saveFile(final String id, final CompoundTag compound) {
+    private void saveFile(final String id, final DataView data) {
         try {
             // Ensure that where we want to put this at ALWAYS exists
             Files.createDirectories(this.playersDirectory);
@@ -165,7 +165,7 @@ private void saveFile(final String id, final CompoundTag compound) {
             final Path finalDatPath = this.playersDirectory.resolve(id + ".dat");
             final Path newDatPath = this.playersDirectory.resolve(id + ".dat.tmp");
             try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE)) {
-                NbtIo.writeCompressed(compound, stream);
+                NBTStreams.writeCompressed(stream, data);
             }
             Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (Exception e) {
@@ -0,0 +1,374 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.spongepowered.api.world.volume.MutableVolume;
+import org.spongepowered.api.world.volume.Volume;
+import org.spongepowered.api.world.volume.stream.VolumeCollector;
+import org.spongepowered.api.world.volume.stream.VolumeConsumer;
+import org.spongepowered.api.world.volume.stream.VolumeElement;
+import org.spongepowered.api.world.volume.stream.VolumeFlatMapper;
+import org.spongepowered.api.world.volume.stream.VolumeMapper;
+import org.spongepowered.api.world.volume.stream.VolumePredicate;
+import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A {@link VolumeStream} that pushes primitive positions and their values
+ * from a list of independent parts, usually one per chunk column. Filters and
+ * mappers are fused into a single pass over the parts, and a
+ * {@link VolumeElement} is only created when an operation asks for one.
+ *
+ * <p>The suppliers handed to {@link VolumePredicate}s and {@link VolumeMapper}s
+ * are reused between positions and are only valid during the call.</p>
+ *
+ * @param <V> The volume type
+ * @param <T> The element type
+ */
+public final class SectionVolumeStream<V extends Volume, T> implements VolumeStream<V, T> {
+
+    /**
+     * Visits a single position of a stream.
+     *
+     * @param <T> The element type
+     */
+    @FunctionalInterface
+    public interface PositionVisitor<T> {
+
+        /**
+         * Visits the value at the given position.
+         *
+         * @return False to stop visiting
+         */
+        boolean visit(int x, int y, int z, T value);
+    }
+
+    /**
+     * An independently traversable part of a stream.
+     *
+     * @param <T> The element type
+     */
+    @FunctionalInterface
+    public interface Part<T> {
+
+        /**
+         * Visits every position of this part in order.
+         *
+         * @return False if the visitor stopped early
+         */
+        boolean visit(PositionVisitor<? super T> visitor);
+    }
+
+    private final Supplier<? extends V> volumeSupplier;
+    private final List<Part<T>> parts;
+    private final boolean splittable;
+    private final boolean parallel;
+
+    /**
+     * Creates a new stream.
+     *
+     * @param volumeSupplier The volume supplier
+     * @param parts The parts to visit, in order
+     * @param splittable Whether the parts may be visited from other threads,
+     *     which requires them to only read already loaded data
+     */
+    public SectionVolumeStream(final Supplier<? extends V> volumeSupplier, final List<Part<T>> parts, final boolean splittable) {
+        this(volumeSupplier, parts, splittable, false);
+    }
+
+    private SectionVolumeStream(final Supplier<? extends V> volumeSupplier, final List<Part<T>> parts, final boolean splittable,
+        final boolean parallel
+    ) {
+        this.volumeSupplier = volumeSupplier;
+        this.parts = parts;
+        this.splittable = splittable;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Gets a stream visiting its parts on the common pool where the parts
+     * allow it, this stream otherwise. Operations that depend on encounter
+     * order, such as {@link #findFirst()} and collecting, stay sequential.
+     *
+     * @return The stream
+     */
+    public SectionVolumeStream<V, T> parallel() {
+        if (!this.splittable || this.parallel) {
+            return this;
+        }
+        return new SectionVolumeStream<>(this.volumeSupplier, this.parts, true, true);
+    }
+
+    private <Out> SectionVolumeStream<V, Out> fuse(final Function<Part<T>, Part<Out>> stage) {
+        final List<Part<Out>> fused = new ArrayList<>(this.parts.size());
+        for (final Part<T> part : this.parts) {
+            fused.add(stage.apply(part));
+        }
+        return new SectionVolumeStream<>(this.volumeSupplier, fused, this.splittable, this.parallel);
+    }
+
+    private boolean visitSequential(final PositionVisitor<? super T> visitor) {
+        for (final Part<T> part : this.parts) {
+            if (!part.visit(visitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean visit(final PositionVisitor<? super T> visitor) {
+        if (!this.parallel) {
+            return this.visitSequential(visitor);
+        }
+        final AtomicBoolean stopped = new AtomicBoolean();
+        this.parts.parallelStream().forEach(part -> {
+            if (stopped.get()) {
+                return;
+            }
+            if (!part.visit((x, y, z, value) -> !stopped.get() && visitor.visit(x, y, z, value))) {
+                stopped.set(true);
+            }
+        });
+        return !stopped.get();
+    }
+
+    private VolumeElement<V, T> element(final V volume, final int x, final int y, final int z, final T value) {
+        return VolumeElement.of(volume, value, new Vector3i(x, y, z));
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volumeSupplier.get();
+    }
+
+    @Override
+    public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
+        return this.fuse(part -> visitor -> {
+            final V volume = this.volumeSupplier.get();
+            final Holder<T> holder = new Holder<>();
+            return part.visit((x, y, z, value) -> {
+                holder.value = value;
+                return !predicate.test(volume, holder, x, y, z) || visitor.visit(x, y, z, value);
+            });
+        });
+    }
+
+    @Override
+    public VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> predicate) {
+        return this.fuse(part -> visitor -> {
+            final V volume = this.volumeSupplier.get();
+            return part.visit((x, y, z, value) -> !predicate.test(this.element(volume, x, y, z, value)) || visitor.visit(x, y, z, value));
+        });
+    }
+
+    @Override
+    public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
+        return this.fuse(part -> visitor -> {
+            final V volume = this.volumeSupplier.get();
+            final Holder<T> holder = new Holder<>();
+            return part.visit((x, y, z, value) -> {
+                holder.value = value;
+                return visitor.visit(x, y, z, mapper.map(volume, holder, x, y, z));
+            });
+        });
+    }
+
+    @Override
+    public VolumeStream<V, Optional<? extends T>> flatMap(final VolumeFlatMapper<V, T> mapper) {
+        return this.fuse(part -> visitor -> {
+            final V volume = this.volumeSupplier.get();
+            final Holder<T> holder = new Holder<>();
+            return part.visit((x, y, z, value) -> {
+                holder.value = value;
+                return visitor.visit(x, y, z, mapper.map(volume, holder, x, y, z));
+            });
+        });
+    }
+
+    @Override
+    public <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? extends Out> mapper) {
+        return this.fuse(part -> visitor -> {
+            final V volume = this.volumeSupplier.get();
+            return part.visit((x, y, z, value) -> visitor.visit(x, y, z, mapper.apply(this.element(volume, x, y, z, value))));
+        });
+    }
+
+    @Override
+    public long count() {
+        final LongAdder count = new LongAdder();
+        this.visit((x, y, z, value) -> {
+            count.increment();
+            return true;
+        });
+        return count.sum();
+    }
+
+    @Override
+    public boolean allMatch(final VolumePredicate<V, ? super T> predicate) {
+        final V volume = this.volumeSupplier.get();
+        return this.visit((x, y, z, value) -> predicate.test(volume, () -> value, x, y, z));
+    }
+
+    @Override
+    public boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
+        final V volume = this.volumeSupplier.get();
+        return this.visit((x, y, z, value) -> predicate.test(this.element(volume, x, y, z, value)));
+    }
+
+    @Override
+    public boolean noneMatch(final VolumePredicate<V, ? super T> predicate) {
+        return !this.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
+        return !this.anyMatch(predicate);
+    }
+
+    @Override
+    public boolean anyMatch(final VolumePredicate<V, ? super T> predicate) {
+        final V volume = this.volumeSupplier.get();
+        return !this.visit((x, y, z, value) -> !predicate.test(volume, () -> value, x, y, z));
+    }
+
+    @Override
+    public boolean anyMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
+        final V volume = this.volumeSupplier.get();
+        return !this.visit((x, y, z, value) -> !predicate.test(this.element(volume, x, y, z, value)));
+    }
+
+    @Override
+    public Optional<VolumeElement<V, T>> findFirst() {
+        final V volume = this.volumeSupplier.get();
+        final AtomicReference<VolumeElement<V, T>> first = new AtomicReference<>();
+        this.visitSequential((x, y, z, value) -> {
+            first.set(this.element(volume, x, y, z, value));
+            return false;
+        });
+        return Optional.ofNullable(first.get());
+    }
+
+    @Override
+    public Optional<VolumeElement<V, T>> findAny() {
+        final V volume = this.volumeSupplier.get();
+        final AtomicReference<VolumeElement<V, T>> any = new AtomicReference<>();
+        this.visit((x, y, z, value) -> {
+            any.compareAndSet(null, this.element(volume, x, y, z, value));
+            return false;
+        });
+        return Optional.ofNullable(any.get());
+    }
+
+    @Override
+    public Stream<VolumeElement<V, T>> toStream() {
+        // Elements are only buffered a part at a time
+        final Stream<Part<T>> parts = this.parallel ? this.parts.parallelStream() : this.parts.stream();
+        return parts.flatMap(part -> {
+            final V volume = this.volumeSupplier.get();
+            final List<VolumeElement<V, T>> elements = new ArrayList<>();
+            part.visit((x, y, z, value) -> elements.add(this.element(volume, x, y, z, value)));
+            return elements.stream();
+        });
+    }
+
+    @Override
+    public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
+        try (final PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.createPhaseContext(PhaseTracker.SERVER)) {
+            context.buildAndSwitch();
+            this.visitSequential((x, y, z, value) -> {
+                final W targetVolume = collector.target().get();
+                final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                    collector.target(),
+                    () -> value,
+                    new Vector3i(x, y, z)
+                ));
+                collector.applicator()
+                    .apply(targetVolume, transformed);
+                return true;
+            });
+        }
+    }
+
+    @Override
+    public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
+        this.visitSequential((x, y, z, value) -> {
+            final W targetVolume = collector.target().get();
+            final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                collector.target(),
+                () -> value,
+                new Vector3i(x, y, z)
+            ));
+            final R apply = collector.applicator()
+                .apply(targetVolume, transformed);
+            return predicate.test(apply);
+        });
+    }
+
+    @Override
+    public void forEach(final VolumeConsumer<V, T> visitor) {
+        final V volume = this.volumeSupplier.get();
+        this.visit((x, y, z, value) -> {
+            visitor.consume(volume, value, x, y, z);
+            return true;
+        });
+    }
+
+    @Override
+    public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
+        final V volume = this.volumeSupplier.get();
+        this.visit((x, y, z, value) -> {
+            consumer.accept(this.element(volume, x, y, z, value));
+            return true;
+        });
+    }
+
+    // A reusable supplier, valid while its value is being visited
+    private static final class Holder<T> implements Supplier<T> {
+
+        T value;
+
+        @Override
+        public T get() {
+            return this.value;
+        }
+    }
+
+}
@@ -60,9 +60,11 @@
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -148,6 +150,82 @@ public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> get
         return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
     }
 
+    /**
+     * Reads the value at the cursor position from a chunk section.
+     *
+     * @param <T> The value type
+     */
+    @FunctionalInterface
+    public interface SectionReader<T> {
+
+        T read(ChunkAccess chunk, LevelChunkSection section, BlockPos.MutableBlockPos cursor);
+    }
+
+    /**
+     * Reads the value at the cursor position from a volume.
+     *
+     * @param <R> The volume type
+     * @param <T> The value type
+     */
+    @FunctionalInterface
+    public interface PositionReader<R, T> {
+
+        @Nullable T read(R volume, BlockPos.MutableBlockPos cursor);
+    }
+
+    public static SectionReader<BlockState> sectionBlockStateReader() {
+        return (chunk, section, cursor) -> section.getBlockState(cursor.getX() & 15, cursor.getY() & 15, cursor.getZ() & 15);
+    }
+
+    public static SectionReader<Biome> sectionBiomeReader(final LevelReader reader) {
+        final Supplier<LevelReader> readerSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(reader, "LevelReader");
+        return (chunk, section, cursor) -> VolumeStreamUtils.chunkSectionBiomeGetter().apply(chunk, section, cursor, readerSupplier.get());
+    }
+
+    /**
+     * Visits the positions of a chunk within the given bounds, a section at a
+     * time and in the order sections store their blocks. Missing sections
+     * are skipped.
+     *
+     * @param chunk The chunk
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param reader The reader of the value at each position
+     * @param visitor The visitor
+     * @param <T> The value type
+     * @return False if the visitor stopped early
+     */
+    public static <T> boolean visitSections(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final SectionReader<T> reader,
+        final SectionVolumeStream.PositionVisitor<? super T> visitor
+    ) {
+        final ChunkPos pos = chunk.getPos();
+        final int xStart = Math.max(min.getX(), pos.getMinBlockX());
+        final int xEnd = Math.min(max.getX(), pos.getMaxBlockX());
+        final int zStart = Math.max(min.getZ(), pos.getMinBlockZ());
+        final int zEnd = Math.min(max.getZ(), pos.getMaxBlockZ());
+        final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        for (final LevelChunkSection section : chunk.getSections()) {
+            if (section == null) {
+                continue;
+            }
+            final int sectionY = section.bottomBlockY();
+            final int yStart = Math.max(min.getY(), sectionY);
+            final int yEnd = Math.min(max.getY(), sectionY + 15);
+            for (int y = yStart; y <= yEnd; y++) {
+                for (int z = zStart; z <= zEnd; z++) {
+                    for (int x = xStart; x <= xEnd; x++) {
+                        cursor.set(x, y, z);
+                        if (!visitor.visit(x, y, z, reader.read(chunk, section, cursor))) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
     public static void validateStreamArgs(final Vector3i min, final Vector3i max, final StreamOptions options) {
         Objects.requireNonNull(min, "Minimum coordinates cannot be null");
         Objects.requireNonNull(max, "Maximum coordinates cannot be null");
@@ -326,6 +404,117 @@ private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElem
         };
     }
 
+    /**
+     * Generates a {@link SectionVolumeStream} over the chunks within the given
+     * bounds, reading values straight from their sections.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param options The stream options
+     * @param ref The volume
+     * @param chunkAccessor The accessor of the chunk at a position
+     * @param sectionReader The reader of values from sections
+     * @param identityFunction Receives every value as it is read, when carbon copying
+     * @param elementReader The reader of the value an element gets, when it
+     *     should not be the value read from the section
+     * @return The stream
+     */
+    public static <R extends Volume, API, MC> SectionVolumeStream<R, API> generateSectionStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor,
+        final SectionReader<MC> sectionReader,
+        final @Nullable BiConsumer<BlockPos, MC> identityFunction,
+        final @Nullable PositionReader<R, MC> elementReader
+    ) {
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        final int minChunkX = min.getX() >> 4;
+        final int minChunkZ = min.getZ() >> 4;
+        final int maxChunkX = max.getX() >> 4;
+        final int maxChunkZ = max.getZ() >> 4;
+
+        // Carbon copies receive every value as it is read from its section
+        final SectionReader<MC> copyingReader = identityFunction == null ? sectionReader : (chunk, section, cursor) -> {
+            final MC value = sectionReader.read(chunk, section, cursor);
+            identityFunction.accept(cursor.immutable(), value);
+            return value;
+        };
+
+        final List<SectionVolumeStream.Part<API>> parts = new ArrayList<>();
+        if (options.loadingStyle().immediateLoading()) {
+            final List<ChunkAccess> chunks = new ArrayList<>();
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    final @Nullable ChunkAccess chunk = chunkAccessor.apply(ref, new ChunkPos(x, z));
+                    if (chunk != null) {
+                        chunks.add(chunk);
+                    }
+                }
+            }
+            if (identityFunction != null) {
+                for (final ChunkAccess chunk : chunks) {
+                    VolumeStreamUtils.visitSections(chunk, min, max, copyingReader, (x, y, z, value) -> true);
+                }
+            }
+            for (final ChunkAccess chunk : chunks) {
+                parts.add(VolumeStreamUtils.sectionPart(chunk, min, max, worldSupplier, sectionReader, elementReader));
+            }
+            // Everything is loaded, so the sections may be read from other threads
+            return new SectionVolumeStream<>(worldSupplier, parts, identityFunction == null);
+        }
+
+        // Chunks are looked up as the stream reaches them. A carbon copy holds exactly
+        // what was just read, so the elements can take the section value directly.
+        final @Nullable PositionReader<R, MC> lazyElementReader = identityFunction == null ? elementReader : null;
+        for (int x = minChunkX; x <= maxChunkX; x++) {
+            for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                final ChunkPos pos = new ChunkPos(x, z);
+                parts.add(visitor -> {
+                    final @Nullable ChunkAccess chunk = chunkAccessor.apply(worldSupplier.get(), pos);
+                    return chunk == null
+                        || VolumeStreamUtils.<R, API, MC>sectionPart(chunk, min, max, worldSupplier, copyingReader, lazyElementReader).visit(visitor);
+                });
+            }
+        }
+        return new SectionVolumeStream<>(worldSupplier, parts, false);
+    }
+
+    /**
+     * Generates a {@link SectionVolumeStream} over a single chunk.
+     *
+     * @see #generateSectionStream(Vector3i, Vector3i, StreamOptions, Volume, BiFunction, SectionReader, BiConsumer, PositionReader)
+     */
+    public static <R extends Volume, API, MC> SectionVolumeStream<R, API> generateSectionStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final ChunkAccess chunk,
+        final SectionReader<MC> sectionReader,
+        final @Nullable BiConsumer<BlockPos, MC> identityFunction,
+        final @Nullable PositionReader<R, MC> elementReader
+    ) {
+        return VolumeStreamUtils.generateSectionStream(min, max, options, ref, (volume, pos) -> chunk, sectionReader, identityFunction,
+            elementReader);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <R, API, MC> SectionVolumeStream.Part<API> sectionPart(final ChunkAccess chunk, final Vector3i min, final Vector3i max,
+        final Supplier<R> worldSupplier, final SectionReader<MC> sectionReader, final @Nullable PositionReader<R, MC> elementReader
+    ) {
+        // This assumes the MC variant is always mixed in to implement the API variant.
+        if (elementReader == null) {
+            return visitor -> VolumeStreamUtils.visitSections(chunk, min, max, (SectionReader) sectionReader, visitor);
+        }
+        return visitor -> {
+            final R volume = worldSupplier.get();
+            return VolumeStreamUtils.visitSections(chunk, min, max, (c, section, cursor) -> elementReader.read(volume, cursor),
+                (x, y, z, value) -> value == null || visitor.visit(x, y, z, (API) value));
+        };
+    }
+
     public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
         final Vector3i min,
         final Vector3i max,
@@ -39,7 +39,7 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
-import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.schematic.ArrayMutablePalette;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3i;
@@ -53,6 +53,9 @@
 public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements BlockVolume.Mutable<ArrayMutableBlockBuffer> {
 
     private static final BlockState AIR = BlockTypes.AIR.get().getDefaultState();
+    // Re-packing touches every block, so start with room for a few states and grow generously
+    private static final int MIN_BITS = 4;
+    private static final int MAX_BITS = 31;
 
     private final Palette.Mutable<BlockState, BlockType> palette;
     private final RegistryReference<BlockType> defaultState;
@@ -60,7 +63,7 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Bloc
 
     public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
         this(
-            new MutableBimapPalette<>(
+            new ArrayMutablePalette<>(
                 PaletteTypes.BLOCK_STATE_PALETTE.get(),
                 Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE),
                 RegistryTypes.BLOCK_TYPE
@@ -81,7 +84,8 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
 
         final int dataSize = this.area();
         this.defaultState = defaultState;
-        this.data = new BlockBackingData.PackedBackingData(dataSize, palette.getHighestId());
+        this.data = new BlockBackingData.PackedBackingData(dataSize,
+            Math.max(mutablePalette.getHighestId(), (1 << ArrayMutableBlockBuffer.MIN_BITS) - 1));
 
         // all blocks default to air
         if (airId != 0) {
@@ -123,19 +127,27 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
         this.checkRange(x, y, z);
         final int id = this.palette.getOrAssign(block);
         if (id > this.data.getMax()) {
-
-            final int highId = this.palette.getHighestId();
-            final int dataSize = this.area();
-            final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
-            for (int i = 0; i < dataSize; i++) {
-                newdata.set(i, this.data.get(i));
-            }
-            this.data = newdata;
+            this.growData(id);
         }
         this.data.set(this.getIndex(x, y, z), id);
         return true;
     }
 
+    private void growData(final int id) {
+        // At least double the bits per block, a palette of thousands of states re-packs only a couple of times
+        final int currentBits = Integer.SIZE - Integer.numberOfLeadingZeros(this.data.getMax());
+        final int neededBits = Integer.SIZE - Integer.numberOfLeadingZeros(id);
+        final int bits = Math.min(ArrayMutableBlockBuffer.MAX_BITS,
+            Math.max(ArrayMutableBlockBuffer.MIN_BITS, Math.max(neededBits, currentBits * 2)));
+
+        final int dataSize = this.area();
+        final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, (1 << bits) - 1);
+        for (int i = 0; i < dataSize; i++) {
+            newdata.set(i, this.data.get(i));
+        }
+        this.data = newdata;
+    }
+
     @Override
     public boolean removeBlock(final int x, final int y, final int z) {
         this.checkRange(x, y, z);
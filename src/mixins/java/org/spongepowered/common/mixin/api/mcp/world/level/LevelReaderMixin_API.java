@@ -191,32 +191,22 @@ default VolumeStream<R, Biome> getBiomeStream(final Vector3i min, final Vector3i
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<R, Biome, net.minecraft.world.level.biome.Biome, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.<R, Biome, net.minecraft.world.level.biome.Biome>generateSectionStream(
             min,
             max,
             options,
             // Ref
             (R) this,
-            // IdentityFunction
-            (pos, biome) -> {
-                if (shouldCarbonCopy) {
-                    backingVolume.setBiome(pos, biome);
-                }
-            },
             // ChunkAccessor
             VolumeStreamUtils.getChunkAccessorByStatus((LevelReader) (Object) this, options.loadingStyle().generateArea()),
-            // Biome by key
-            (key, biome) -> key,
-            // Entity Accessor
-            VolumeStreamUtils.getBiomesForChunkByPos((LevelReader) (Object) this, min, max)
-            ,
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.biome.Biome biome = shouldCarbonCopy
-                    ? backingVolume.getNativeBiome(blockPos.getX(), blockPos.getY(), blockPos.getZ())
-                    : ((LevelReader) world).getBiome(blockPos);
-                return new Tuple<>(blockPos, biome);
-            }
+            // Section Reader
+            VolumeStreamUtils.sectionBiomeReader((LevelReader) (Object) this),
+            // IdentityFunction
+            shouldCarbonCopy ? (pos, biome) -> backingVolume.setBiome(pos, biome) : null,
+            // Element Reader
+            (world, pos) -> shouldCarbonCopy
+                ? backingVolume.getNativeBiome(pos.getX(), pos.getY(), pos.getZ())
+                : ((LevelReader) world).getBiome(pos)
         );
     }
 
@@ -233,31 +223,20 @@ default VolumeStream<R, BlockState> getBlockStateStream(final Vector3i min, fina
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<R, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.<R, BlockState, net.minecraft.world.level.block.state.BlockState>generateSectionStream(
             min,
             max,
             options,
             // Ref
             (R) this,
-            // IdentityFunction
-            (pos, blockState) -> {
-                if (shouldCarbonCopy) {
-                    backingVolume.setBlock(pos, blockState);
-                }
-            },
             // ChunkAccessor
             VolumeStreamUtils.getChunkAccessorByStatus((LevelReader) (Object) this, options.loadingStyle().generateArea()),
-            // Biome by block position
-            (key, biome) -> key,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.block.state.BlockState tileEntity = shouldCarbonCopy
-                    ? backingVolume.getBlock(blockPos)
-                    : ((LevelReader) world).getBlockState(blockPos);
-                return new Tuple<>(blockPos, tileEntity);
-            }
+            // Section Reader
+            VolumeStreamUtils.sectionBlockStateReader(),
+            // IdentityFunction
+            shouldCarbonCopy ? (pos, blockState) -> backingVolume.setBlock(pos, blockState) : null,
+            // Element Reader, the sections are read directly unless carbon copied
+            shouldCarbonCopy ? (world, pos) -> backingVolume.getBlock(pos) : null
         );
     }
 
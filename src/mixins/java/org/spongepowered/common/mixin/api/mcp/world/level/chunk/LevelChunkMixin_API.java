@@ -171,28 +171,19 @@ public VolumeStream<Chunk, BlockState> getBlockStateStream(
             backingVolume = null;
         }
 
-        return VolumeStreamUtils.<Chunk, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.<Chunk, BlockState, net.minecraft.world.level.block.state.BlockState>generateSectionStream(
+            min,
+            max,
             options,
             // Ref
             (Chunk) this,
             (LevelChunk) (Object) this,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
+            // Section Reader
+            VolumeStreamUtils.sectionBlockStateReader(),
             // IdentityFunction
-            (pos, blockState) -> {
-                if (shouldCarbonCopy) {
-                    backingVolume.setBlock(pos, blockState);
-                }
-            },
-            // Biome by block position
-            (key, biome) -> key,
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.block.state.BlockState tileEntity = shouldCarbonCopy
-                    ? backingVolume.getBlock(blockPos)
-                    : ((LevelReader) world).getBlockState(blockPos);
-                return new Tuple<>(blockPos, tileEntity);
-            }
+            shouldCarbonCopy ? (pos, blockState) -> backingVolume.setBlock(pos, blockState) : null,
+            // Element Reader, the sections are read directly unless carbon copied
+            shouldCarbonCopy ? (chunk, pos) -> backingVolume.getBlock(pos) : null
         );
     }
 
@@ -253,27 +244,21 @@ public VolumeStream<Chunk, Biome> getBiomeStream(
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<Chunk, Biome, net.minecraft.world.level.biome.Biome, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.<Chunk, Biome, net.minecraft.world.level.biome.Biome>generateSectionStream(
+            min,
+            max,
             options,
             // Ref
             (Chunk) this,
             (LevelChunk) (Object) this,
-            // Entity Accessor
-            VolumeStreamUtils.getBiomesForChunkByPos((LevelReader) (Object) this, min, max),
+            // Section Reader
+            VolumeStreamUtils.sectionBiomeReader((LevelReader) (Object) this),
             // IdentityFunction
-            (pos, biome) -> {
-                if (shouldCarbonCopy) {
-                    backingVolume.setBiome(pos, biome);
-                }
-            },            // Biome by block position
-            (key, biome) -> key,
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.biome.Biome biome = shouldCarbonCopy
-                    ? backingVolume.getNativeBiome(blockPos.getX(), blockPos.getY(), blockPos.getZ())
-                    : ((LevelReader) world.getWorld()).getBiome(blockPos);
-                return new Tuple<>(blockPos, biome);
-            }
+            shouldCarbonCopy ? (pos, biome) -> backingVolume.setBiome(pos, biome) : null,
+            // Element Reader
+            (chunk, pos) -> shouldCarbonCopy
+                ? backingVolume.getNativeBiome(pos.getX(), pos.getY(), pos.getZ())
+                : ((LevelReader) chunk.getWorld()).getBiome(pos)
         );
     }
 // TODO implement the rest of it
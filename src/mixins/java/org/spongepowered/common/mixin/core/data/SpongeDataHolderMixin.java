@@ -54,6 +54,7 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
 
     private DataManipulator.Mutable impl$manipulator;
     private Multimap<DataQuery, DataView> impl$failedData = HashMultimap.create();
+    private boolean impl$dataDirty;
 
     @Override
     public DataManipulator.Mutable bridge$getManipulator() {
@@ -97,4 +98,22 @@ public abstract class SpongeDataHolderMixin implements SpongeDataHolderBridge {
     public void bridge$addFailedData(DataQuery nameSpace, DataView keyedData) {
         this.impl$failedData.put(nameSpace, keyedData);
     }
+
+    @Override
+    public boolean bridge$defersDataSync() {
+        // Entities, block entities and users only read their custom data compound when
+        // being saved, everything else exposes the compound as its actual state.
+        final Object holder = this;
+        return holder instanceof Entity || holder instanceof BlockEntity || holder instanceof SpongeUser;
+    }
+
+    @Override
+    public boolean bridge$isDataDirty() {
+        return this.impl$dataDirty;
+    }
+
+    @Override
+    public void bridge$setDataDirty(boolean dirty) {
+        this.impl$dataDirty = dirty;
+    }
 }
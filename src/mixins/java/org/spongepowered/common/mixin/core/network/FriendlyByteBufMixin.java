@@ -24,12 +24,15 @@
  */
 package org.spongepowered.common.mixin.core.network;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.EncoderException;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.ModifyVariable;
-import org.spongepowered.common.adventure.AdventureTextComponent;
-import org.spongepowered.common.adventure.NativeComponentRenderer;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.adventure.LocalizedComponentCache;
 import org.spongepowered.common.bridge.network.PacketBufferBridge;
 
 import java.util.Locale;
@@ -37,16 +40,27 @@
 import net.minecraft.network.chat.Component;
 
 @Mixin(FriendlyByteBuf.class)
-public abstract class FriendlyByteBufMixin implements PacketBufferBridge {
+public abstract class FriendlyByteBufMixin extends ByteBuf implements PacketBufferBridge {
+
+    // @formatter:off
+    @Shadow public abstract FriendlyByteBuf shadow$writeVarInt(int input);
+    // @formatter:on
 
     private @Nullable Locale impl$locale;
 
-    @ModifyVariable(method = "writeComponent", at = @At("HEAD"), argsOnly = true)
-    private Component localizeComponent(final Component input) {
-        if(this.impl$locale != null) {
-            return NativeComponentRenderer.apply(input, this.impl$locale);
+    @Inject(method = "writeComponent", at = @At("HEAD"), cancellable = true)
+    private void impl$writeLocalizedComponent(final Component input, final CallbackInfoReturnable<FriendlyByteBuf> cir) {
+        if (this.impl$locale != null) {
+            // Same as writeUtf(Component.Serializer.toJson(input), 262144), but the encoded
+            // bytes are shared between every connection with this locale
+            final byte[] encoded = LocalizedComponentCache.encode(input, this.impl$locale);
+            if (encoded.length > 262144) {
+                throw new EncoderException("String too big (was " + encoded.length + " bytes encoded, max " + 262144 + ")");
+            }
+            this.shadow$writeVarInt(encoded.length);
+            this.writeBytes(encoded);
+            cir.setReturnValue((FriendlyByteBuf) (Object) this);
         }
-        return input;
     }
 
     @Override
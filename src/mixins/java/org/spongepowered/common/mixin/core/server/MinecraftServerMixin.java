@@ -184,6 +184,7 @@ public Subject getSubject() {
         ((PlayerProfileCacheBridge) this.profileCache).bridge$setCanSave(true);
         this.profileCache.save();
         ((PlayerProfileCacheBridge) this.profileCache).bridge$setCanSave(false);
+        this.getUsernameCache().save();
     }
 
     /**
@@ -202,6 +203,9 @@ public String getServerModName() {
 
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
+        // The writer thread is a daemon, make sure the last changes reach the disk
+        this.getUsernameCache().saveNow();
+
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
             if (entry.getKey() == Level.OVERWORLD) {
                 continue;
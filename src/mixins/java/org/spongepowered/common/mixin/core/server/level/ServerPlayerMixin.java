@@ -113,6 +113,7 @@
 import org.spongepowered.common.bridge.permissions.SubjectBridge;
 import org.spongepowered.common.bridge.scoreboard.ServerScoreboardBridge;
 import org.spongepowered.common.bridge.world.BossInfoBridge;
+import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.type.SpongeSkinPart;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.living.human.HumanEntity;
@@ -760,6 +761,7 @@ public void die(final DamageSource cause) {
         // Copy Sponge data
         if (oldPlayer instanceof DataCompoundHolder) {
             final DataCompoundHolder oldEntity = (DataCompoundHolder) oldPlayer;
+            DataUtil.syncDirtyDataToTag(oldEntity);
             if (oldEntity.data$hasSpongeData()) {
                 final CompoundTag compound = oldEntity.data$getCompound();
                 ((DataCompoundHolder) this).data$setCompound(compound);
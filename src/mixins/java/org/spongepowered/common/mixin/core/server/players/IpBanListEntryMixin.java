@@ -53,7 +53,10 @@ public abstract class IpBanListEntryMixin extends BanListEntryMixin<String> impl
 
     private void setAddress() {
         try {
-            this.impl$address = InetAddress.getByName(this.shadow$getUser());
+            // Ranges are keyed by their CIDR notation
+            final String user = this.shadow$getUser();
+            final int slashIndex = user.lastIndexOf('/');
+            this.impl$address = InetAddress.getByName(slashIndex == -1 ? user : user.substring(0, slashIndex));
         } catch (UnknownHostException e) {
             throw new IllegalStateException("Error parsing Ban IP address!", e);
         }
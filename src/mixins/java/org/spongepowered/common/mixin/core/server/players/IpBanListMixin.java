@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.server.players;
+
+import net.minecraft.server.players.IpBanList;
+import net.minecraft.server.players.IpBanListEntry;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.accessor.server.players.IpBanListAccessor;
+import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+import org.spongepowered.common.service.server.ban.IpBanIndex;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+@Mixin(IpBanList.class)
+public abstract class IpBanListMixin {
+
+    @Inject(method = "isBanned(Ljava/net/SocketAddress;)Z", at = @At("HEAD"), cancellable = true)
+    private void impl$checkIndexedBans(final SocketAddress address, final CallbackInfoReturnable<Boolean> cir) {
+        final IpBanIndex index = this.impl$getIndex(address);
+        if (index != null) {
+            cir.setReturnValue(index.getBan(((InetSocketAddress) address).getAddress(), ((IpBanListAccessor) (Object) this).invoker$getIpFromAddress(address)) != null);
+        }
+    }
+
+    @Inject(method = "get(Ljava/net/SocketAddress;)Lnet/minecraft/server/players/IpBanListEntry;", at = @At("HEAD"), cancellable = true)
+    private void impl$getIndexedBan(final SocketAddress address, final CallbackInfoReturnable<IpBanListEntry> cir) {
+        final IpBanIndex index = this.impl$getIndex(address);
+        if (index != null) {
+            // Also avoids going through every ban to remove expired ones on each login
+            cir.setReturnValue(index.getBan(((InetSocketAddress) address).getAddress(), ((IpBanListAccessor) (Object) this).invoker$getIpFromAddress(address)));
+        }
+    }
+
+    @Nullable
+    private IpBanIndex impl$getIndex(final SocketAddress address) {
+        if (!(address instanceof InetSocketAddress) || ((InetSocketAddress) address).getAddress() == null) {
+            return null;
+        }
+        final Map<String, ?> map = ((StoredUserListAccessor<?, ?>) (Object) this).accessor$map();
+        return map instanceof IpBanIndex ? (IpBanIndex) map : null;
+    }
+}
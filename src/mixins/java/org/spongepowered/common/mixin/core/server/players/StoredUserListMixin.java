@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.mixin.core.server.players;
 
-import org.apache.logging.log4j.Logger;
+import com.google.common.collect.Maps;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -32,15 +32,71 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+import org.spongepowered.common.service.server.ban.IpBanIndex;
+import org.spongepowered.common.service.server.ban.IpBanJournal;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import net.minecraft.server.players.IpBanList;
+import net.minecraft.server.players.IpBanListEntry;
 import net.minecraft.server.players.StoredUserList;
 
 @Mixin(StoredUserList.class)
 public abstract class StoredUserListMixin {
 
+    // @formatter:off
+    @Shadow @Final private File file;
+    @Shadow @Final private Map<String, ?> map;
+
     @Shadow protected abstract String shadow$getKeyForUser(Object obj);
+    // @formatter:on
+
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/Maps;newHashMap()Ljava/util/HashMap;", remap = false))
+    private HashMap<String, ?> impl$createIpBanIndex() {
+        if ((Object) this instanceof IpBanList) {
+            return new IpBanIndex();
+        }
+        return Maps.newHashMap();
+    }
+
+    @Inject(method = "save", at = @At("HEAD"), cancellable = true)
+    private void impl$journalIpBans(final CallbackInfo ci) {
+        if (this.map instanceof IpBanIndex) {
+            final IpBanJournal journal = ((IpBanIndex) this.map).getJournal();
+            if (journal != null) {
+                // Changes are already in the journal, only compact it when needed
+                journal.compactIfNeeded(((IpBanIndex) this.map).values());
+                ci.cancel();
+            }
+        }
+    }
+
+    @Inject(method = "load", at = @At("HEAD"))
+    private void impl$suspendIpBanJournal(final CallbackInfo ci) {
+        if (this.map instanceof IpBanIndex) {
+            ((IpBanIndex) this.map).setJournal(null);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Inject(method = "load", at = @At("RETURN"))
+    private void impl$replayIpBanJournal(final CallbackInfo ci) {
+        if (this.map instanceof IpBanIndex) {
+            final IpBanIndex index = (IpBanIndex) this.map;
+            final IpBanJournal journal = new IpBanJournal(this.file.toPath());
+            try {
+                journal.replay((StoredUserListAccessor<String, IpBanListEntry>) (Object) this, index);
+            } catch (final IOException e) {
+                SpongeCommon.getLogger().error("Could not replay the ban journal for {}", this.file, e);
+            }
+            index.setJournal(journal);
+        }
+    }
 
     @Redirect(method = "removeExpired", at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false))
     private boolean impl$fixAddingToList(final List<Object> list, final Object object) {
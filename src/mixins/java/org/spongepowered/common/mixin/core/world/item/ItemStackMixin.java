@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
+import org.spongepowered.common.bridge.item.ItemStackBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.data.DataUtil;
 import org.spongepowered.common.data.provider.nbt.NBTDataType;
@@ -55,7 +56,7 @@
 import java.util.Optional;
 
 @Mixin(net.minecraft.world.item.ItemStack.class)
-public abstract class ItemStackMixin implements SpongeDataHolderBridge, DataCompoundHolder {
+public abstract class ItemStackMixin implements SpongeDataHolderBridge, DataCompoundHolder, ItemStackBridge {
 
     // @formatter:off
     @Shadow private boolean emptyCacheFlag;
@@ -65,6 +66,25 @@ public abstract class ItemStackMixin implements SpongeDataHolderBridge, DataComp
     @Shadow @Nullable public abstract CompoundTag shadow$getTag();
     // @formatter:on
 
+    private int impl$modificationCount;
+
+    @Override
+    public int bridge$getModificationCount() {
+        return this.impl$modificationCount;
+    }
+
+    // grow and shrink delegate to setCount. Any handed out tag may be edited in place,
+    // including removals through getTag or getTagElement, so those count as well.
+    @Inject(method = {"setCount", "setTag", "removeTagKey"}, at = @At("HEAD"))
+    private void impl$markModified(final CallbackInfo ci) {
+        this.impl$modificationCount++;
+    }
+
+    @Inject(method = {"getOrCreateTag", "getTag", "getTagElement"}, at = @At("HEAD"))
+    private void impl$markTagModified(final CallbackInfoReturnable<CompoundTag> cir) {
+        this.impl$modificationCount++;
+    }
+
     @Override
     public <E> DataTransactionResult bridge$offer(final Key<@NonNull ? extends Value<E>> key, final E value) {
         if (this.emptyCacheFlag) {
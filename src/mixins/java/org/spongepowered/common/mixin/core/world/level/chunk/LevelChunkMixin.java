@@ -25,6 +25,7 @@
 package org.spongepowered.common.mixin.core.world.level.chunk;
 
 import com.google.common.base.MoreObjects;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.util.Direction;
 import org.spongepowered.asm.mixin.Final;
@@ -35,8 +36,12 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.bridge.world.chunk.CacheKeyBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.PlayerBlockTracker;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.world.storage.ChunkPlayerTracker;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
@@ -55,7 +60,6 @@
 import net.minecraft.world.level.material.Fluid;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -83,6 +87,7 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
     private boolean impl$isSpawning = false;
     private final net.minecraft.world.level.chunk.LevelChunk[] impl$neighbors = new net.minecraft.world.level.chunk.LevelChunk[4];
     private long impl$cacheKey;
+    @Nullable private ChunkPlayerTracker impl$playerTracker;
 
     @Inject(method = "<init>(Lnet/minecraft/world/level/Level;Lnet/minecraft/world/level/ChunkPos;Lnet/minecraft/world/level/chunk/ChunkBiomeContainer;Lnet/minecraft/world/level/chunk/UpgradeData;Lnet/minecraft/world/level/TickList;Lnet/minecraft/world/level/TickList;J[Lnet/minecraft/world/level/chunk/LevelChunkSection;Ljava/util/function/Consumer;)V",
             at = @At("RETURN"))
@@ -123,58 +128,84 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
     }
 
 
-    // These methods are enabled in ChunkMixin_CreatorTracked as a Mixin plugin
-
     @Override
     public void bridge$addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) {
-    }
-
-    @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
-        return Collections.emptyMap();
-    }
-
-    @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
-        return Collections.emptyMap();
+        this.impl$setTrackedPlayer(block, pos, trackerType, user.getUniqueId());
     }
 
     @Override
     public Optional<User> bridge$getBlockCreator(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockCreatorUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockCreatorUUID(final BlockPos pos) {
-        return Optional.empty();
+        if (this.impl$playerTracker == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.impl$playerTracker.getCreator(pos));
     }
 
     @Override
     public Optional<User> bridge$getBlockNotifier(final BlockPos pos) {
-        return Optional.empty();
+        return this.bridge$getBlockNotifierUUID(pos).flatMap(uuid -> Sponge.getServer().getUserManager().get(uuid));
     }
 
     @Override
     public Optional<UUID> bridge$getBlockNotifierUUID(final BlockPos pos) {
-        return Optional.empty();
+        if (this.impl$playerTracker == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.impl$playerTracker.getNotifier(pos));
     }
 
     @Override
     public void bridge$setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
+        this.impl$setTrackedPlayer(null, pos, PlayerTracker.Type.NOTIFIER, uuid);
     }
 
     @Override
     public void bridge$setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
+        this.impl$setTrackedPlayer(null, pos, PlayerTracker.Type.CREATOR, uuid);
     }
 
+    @Nullable
     @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
+    public ChunkPlayerTracker bridge$getPlayerTracker() {
+        return this.impl$playerTracker;
     }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
+    public void bridge$setPlayerTracker(@Nullable final ChunkPlayerTracker tracker) {
+        this.impl$playerTracker = tracker;
     }
 
+    private void impl$setTrackedPlayer(@Nullable final Block block, final BlockPos pos, final PlayerTracker.Type trackerType,
+        @Nullable final UUID uuid) {
+        if (uuid == null) {
+            // Clearing a position is always allowed, only new entries are subject to the config
+            if (this.impl$playerTracker != null && this.impl$playerTracker.set(pos, trackerType, null)) {
+                this.unsaved = true;
+            }
+            return;
+        }
+        if (((WorldBridge) this.level).bridge$isFake()) {
+            return;
+        }
+        final PlayerBlockTracker trackerConfig = SpongeGameConfigs.getForWorld(this.level).get().playerBlockTracker;
+        if (!trackerConfig.enabled) {
+            return;
+        }
+        if (trackerConfig.isBlacklisted(block == null ? this.getBlockState(pos).getBlock() : block)) {
+            return;
+        }
+        if (this.impl$playerTracker == null) {
+            this.impl$playerTracker = new ChunkPlayerTracker();
+        }
+        if (this.impl$playerTracker.set(pos, trackerType, uuid)) {
+            this.unsaved = true;
+        }
+    }
 
     // Fast neighbor methods for internal use
     @Override
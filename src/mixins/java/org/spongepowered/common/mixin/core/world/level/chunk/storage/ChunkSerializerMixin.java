@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.level.chunk.storage;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.storage.ChunkSerializer;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureManager;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.storage.ChunkPlayerTracker;
+
+@Mixin(ChunkSerializer.class)
+public abstract class ChunkSerializerMixin {
+
+    @Inject(method = "write", at = @At("RETURN"))
+    private static void impl$writeSpongeChunkData(final ServerLevel level, final ChunkAccess chunk, final CallbackInfoReturnable<CompoundTag> cir) {
+        if (!(chunk instanceof LevelChunk)) {
+            return;
+        }
+        final ChunkPlayerTracker tracker = ((ChunkBridge) chunk).bridge$getPlayerTracker();
+        if (tracker == null || tracker.isEmpty()) {
+            return;
+        }
+        final CompoundTag spongeData = new CompoundTag();
+        tracker.writeTo(spongeData);
+        cir.getReturnValue().getCompound(Constants.Chunk.CHUNK_DATA_LEVEL).put(Constants.Sponge.Data.V2.SPONGE_DATA, spongeData);
+    }
+
+    @Inject(method = "read", at = @At("RETURN"))
+    private static void impl$readSpongeChunkData(final ServerLevel level, final StructureManager structureManager, final PoiManager poiManager,
+        final ChunkPos pos, final CompoundTag compound, final CallbackInfoReturnable<ProtoChunk> cir) {
+        if (!(cir.getReturnValue() instanceof ImposterProtoChunk)) {
+            return;
+        }
+        final CompoundTag levelCompound = compound.getCompound(Constants.Chunk.CHUNK_DATA_LEVEL);
+        if (!levelCompound.contains(Constants.Sponge.Data.V2.SPONGE_DATA, Constants.NBT.TAG_COMPOUND)) {
+            return;
+        }
+        final ChunkPlayerTracker tracker = new ChunkPlayerTracker();
+        tracker.readFrom(levelCompound.getCompound(Constants.Sponge.Data.V2.SPONGE_DATA));
+        if (!tracker.isEmpty()) {
+            ((ChunkBridge) ((ImposterProtoChunk) cir.getReturnValue()).getWrapped()).bridge$setPlayerTracker(tracker);
+        }
+    }
+}
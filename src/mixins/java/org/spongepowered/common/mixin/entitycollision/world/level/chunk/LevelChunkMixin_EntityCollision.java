@@ -52,6 +52,21 @@ public abstract class LevelChunkMixin_EntityCollision {
 
     @Shadow public abstract Level shadow$getLevel();
 
+    private static final int UNRESOLVED = -2;
+    private static final int UNLIMITED = -1;
+
+    // The collision rule only depends on the current phase, so it is looked up on the
+    // first add of each query instead of on every entity added to the list
+    private int collisionsImpl$maxCollisions = LevelChunkMixin_EntityCollision.UNRESOLVED;
+
+    @Inject(method = {
+            "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
+            "getEntitiesOfClass"
+        }, at = @At("HEAD"))
+    private void collisionsImpl$resetCollisionRule(final CallbackInfo ci) {
+        this.collisionsImpl$maxCollisions = LevelChunkMixin_EntityCollision.UNRESOLVED;
+    }
+
     @Inject(method = "getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/List;Ljava/util/function/Predicate;)V",
             at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false), cancellable = true)
     private void collisionsImpl$checkForCollisionRules(final @Nullable Entity entity,
@@ -60,7 +75,7 @@ public abstract class LevelChunkMixin_EntityCollision {
             final Predicate<? super Entity> filter,
             final CallbackInfo ci) {
         // ignore players and entities with parts (ex. EnderDragon)
-        if (this.shadow$getLevel().isClientSide() || entities == null || entity instanceof Player || entity instanceof EnderDragon) {
+        if (entities == null || entity instanceof Player || entity instanceof EnderDragon) {
             return;
         }
         // Run hook in LivingEntity to support maxEntityCramming
@@ -79,7 +94,7 @@ public abstract class LevelChunkMixin_EntityCollision {
             final List<T> entities, final Predicate<? super T> filter, final CallbackInfo ci) {
         // ignore player checks
         // ignore item check (ex. Hoppers)
-        if (this.shadow$getLevel().isClientSide() || Player.class.isAssignableFrom(entityClass) || ItemEntity.class == entityClass) {
+        if (Player.class.isAssignableFrom(entityClass) || ItemEntity.class == entityClass) {
             return;
         }
 
@@ -89,19 +104,29 @@ public abstract class LevelChunkMixin_EntityCollision {
     }
 
     private <T extends Entity> boolean entityCollision$allowEntityCollision(final List<T> entities) {
-        if (((WorldBridge) this.shadow$getLevel()).bridge$isFake()) {
-            return true;
+        int maxCollisions = this.collisionsImpl$maxCollisions;
+        if (maxCollisions == LevelChunkMixin_EntityCollision.UNRESOLVED) {
+            maxCollisions = this.entityCollision$resolveMaxCollisions();
+            this.collisionsImpl$maxCollisions = maxCollisions;
         }
+        return maxCollisions == LevelChunkMixin_EntityCollision.UNLIMITED || entities.size() < maxCollisions;
+    }
 
-        if (PhaseTracker.getInstance().getPhaseContext().isCollision()) {
-            // allow explosions
-            return true;
+    private int entityCollision$resolveMaxCollisions() {
+        final Level level = this.shadow$getLevel();
+        if (level.isClientSide() || ((WorldBridge) level).bridge$isFake()) {
+            return LevelChunkMixin_EntityCollision.UNLIMITED;
         }
 
         final PhaseContext<?> phaseContext = PhaseTracker.getInstance().getPhaseContext();
+        if (phaseContext.isCollision()) {
+            // allow explosions
+            return LevelChunkMixin_EntityCollision.UNLIMITED;
+        }
+
         final Object source = phaseContext.getSource();
         if (source == null) {
-            return true;
+            return LevelChunkMixin_EntityCollision.UNLIMITED;
         }
 
         CollisionCapabilityBridge collisionBridge = null;
@@ -115,14 +140,15 @@ public abstract class LevelChunkMixin_EntityCollision {
         }
 
         if (collisionBridge == null) {
-            return true;
+            return LevelChunkMixin_EntityCollision.UNLIMITED;
         }
 
         if (collisionBridge.collision$requiresCollisionsCacheRefresh()) {
-            collisionBridge.collision$initializeCollisionState(this.shadow$getLevel());
+            collisionBridge.collision$initializeCollisionState(level);
             collisionBridge.collision$requiresCollisionsCacheRefresh(false);
         }
 
-        return !((collisionBridge.collision$getMaxCollisions() >= 0) && (entities.size() >= collisionBridge.collision$getMaxCollisions()));
+        final int maxCollisions = collisionBridge.collision$getMaxCollisions();
+        return maxCollisions < 0 ? LevelChunkMixin_EntityCollision.UNLIMITED : maxCollisions;
     }
 }
@@ -45,12 +45,14 @@
 import org.spongepowered.common.bridge.inventory.container.PlayerContainerBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedContainerBridge;
 import org.spongepowered.common.bridge.inventory.container.TrackedInventoryBridge;
+import org.spongepowered.common.bridge.item.ItemStackBridge;
 import org.spongepowered.common.event.tracking.phase.packet.PacketPhaseUtil;
 import org.spongepowered.common.inventory.adapter.InventoryAdapter;
 import org.spongepowered.common.inventory.custom.SpongeInventoryMenu;
 import org.spongepowered.common.item.util.ItemStackUtil;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -183,6 +185,7 @@ public abstract class AbstractContainerMenuMixin_Inventory implements TrackedCon
     // Captures the SlotTransaction for later event
     @Inject(method = "setItem", at = @At(value = "HEAD") )
     private void impl$addTransaction(final int slotId, final ItemStack itemstack, final CallbackInfo ci) {
+        this.impl$dirtySlots.set(slotId);
         if (this.bridge$capturingInventory()) {
             final Slot slot = this.shadow$getSlot(slotId);
             if (slot != null) {
@@ -426,25 +429,68 @@ public void broadcastChanges() {
 
     @Shadow public abstract NonNullList<ItemStack> shadow$getItems();
 
+    // Slots are only compared against lastSlots when they were written through the menu, hold a different
+    // stack than last time or their stack was modified in place. Everything is compared every FULL_SCAN_INTERVAL
+    // calls to catch mods that change stacks in ways we don't see.
+    private static final int FULL_SCAN_INTERVAL = 20;
+
+    private final BitSet impl$dirtySlots = new BitSet();
+    @Nullable private BitSet impl$changedSlots = new BitSet();
+    @Nullable private ItemStack[] impl$observedStacks;
+    @Nullable private int[] impl$observedModifications;
+    private int impl$scansUntilFullScan;
+
+    private boolean impl$prepareScan(final boolean captureOnly) {
+        final int size = this.slots.size();
+        if (this.impl$observedStacks == null || this.impl$observedStacks.length != size) {
+            this.impl$observedStacks = new ItemStack[size];
+            this.impl$observedModifications = new int[size];
+            this.impl$scansUntilFullScan = 0;
+        }
+        if (captureOnly) {
+            return true;
+        }
+        if (--this.impl$scansUntilFullScan <= 0) {
+            this.impl$scansUntilFullScan = AbstractContainerMenuMixin_Inventory.FULL_SCAN_INTERVAL;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void bridge$detectAndSendChanges(final boolean captureOnly) {
         // Code-Flow changed from vanilla completely!
 
         SpongeInventoryMenu menu = ((MenuBridge)this).bridge$getMenu();
         // We first collect all differences and check if cancelled for readonly menu changes
-        List<Integer> changes = new ArrayList<>();
+        // Reused between calls, a nested call from a menu callback gets its own
+        BitSet changes = this.impl$changedSlots;
+        this.impl$changedSlots = null;
+        if (changes == null) {
+            changes = new BitSet();
+        }
+        final boolean fullScan = this.impl$prepareScan(captureOnly);
+        final ItemStack[] observedStacks = this.impl$observedStacks;
+        final int[] observedModifications = this.impl$observedModifications;
 
         for (int i = 0; i < this.slots.size(); ++i) {
             final Slot slot = this.slots.get(i);
             final ItemStack newStack = slot.getItem();
+            final int modifications = ((ItemStackBridge) (Object) newStack).bridge$getModificationCount();
+            if (!fullScan && !this.impl$dirtySlots.get(i) && observedStacks[i] == newStack && observedModifications[i] == modifications) {
+                continue;
+            }
+            observedStacks[i] = newStack;
+            observedModifications[i] = modifications;
             ItemStack oldStack = this.lastSlots.get(i);
             if (!ItemStack.matches(oldStack, newStack)) {
-                changes.add(i);
+                changes.set(i);
             }
         }
+        this.impl$dirtySlots.clear();
 
         // For each change
-        for (Integer i : changes) {
+        for (int i = changes.nextSetBit(0); i >= 0; i = changes.nextSetBit(i + 1)) {
             final Slot slot = this.slots.get(i);
             ItemStack newStack = slot.getItem();
             ItemStack oldStack = this.lastSlots.get(i);
@@ -454,6 +500,8 @@ public void broadcastChanges() {
                 this.lastSlots.set(i, oldStack.copy());  // revert changes
                 // Send reverted slots to clients
                 this.impl$sendSlotContents(i, oldStack);
+                // The slot still differs from lastSlots, keep looking at it
+                this.impl$dirtySlots.set(i);
             } else {
                 // Capture changes for inventory events
                 this.impl$capture(i, newStack, oldStack);
@@ -461,6 +509,7 @@ public void broadcastChanges() {
                 // This flag is set only when the client sends an invalid CPacketWindowClickItem packet.
                 // We simply capture in order to send the proper changes back to client.
                 if (captureOnly) {
+                    this.impl$dirtySlots.set(i);
                     continue;
                 }
                 // Perform vanilla logic - updating inventory stack - notify listeners
@@ -472,6 +521,8 @@ public void broadcastChanges() {
                 }
             }
         }
+        changes.clear();
+        this.impl$changedSlots = changes;
 
         // like vanilla send property changes
         this.impl$detectAndSendPropertyChanges();
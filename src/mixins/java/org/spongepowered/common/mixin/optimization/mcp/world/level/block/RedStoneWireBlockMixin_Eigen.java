@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.mcp.world.level.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.mixin.plugin.RedstoneWireTurbo;
+
+@Mixin(value = RedStoneWireBlock.class, priority = 1001)
+public abstract class RedStoneWireBlockMixin_Eigen {
+
+    // @formatter:off
+    @Shadow private void shadow$updatePowerStrength(final Level world, final BlockPos pos, final BlockState state) { }
+    // @formatter:on
+
+    // Set to true to restore the vanilla algorithm for propagating redstone wire changes.
+    private final boolean eigen$vanillaSearch = SpongeConfigs.getCommon().get().optimizations.eigenRedstone.vanillaSearch;
+
+    // The bulk of the new functionality is found in RedstoneWireTurbo
+    private final RedstoneWireTurbo eigen$turbo = new RedstoneWireTurbo((RedStoneWireBlock) (Object) this,
+        SpongeConfigs.getCommon().get().optimizations.eigenRedstone.vanillaDecrement);
+
+    /**
+     * Replaces the vanilla power update, which notifies all 42 neighbours of
+     * every wire that changes, with the breadth-first turbo search. Used for
+     * placement and removal, where the update source is unknown.
+     */
+    @Inject(method = "updatePowerStrength", at = @At("HEAD"), cancellable = true)
+    private void eigen$useTurboForPowerUpdate(final Level world, final BlockPos pos, final BlockState state, final CallbackInfo ci) {
+        if (this.eigen$vanillaSearch || world.isClientSide) {
+            return;
+        }
+        this.eigen$turbo.updateSurroundingRedstone(world, pos, state, null);
+        ci.cancel();
+    }
+
+    /**
+     * Neighbour changes know which position triggered them, which lets the
+     * turbo search determine the direction of information flow.
+     */
+    @Redirect(method = "neighborChanged",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/block/RedStoneWireBlock;updatePowerStrength(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;)V"))
+    private void eigen$useTurboWithSource(final RedStoneWireBlock self, final Level world, final BlockPos pos, final BlockState state,
+        final BlockState stateIn, final Level worldIn, final BlockPos posIn, final Block blockIn, final BlockPos fromPos, final boolean isMoving
+    ) {
+        if (this.eigen$vanillaSearch) {
+            this.shadow$updatePowerStrength(world, pos, state);
+            return;
+        }
+        this.eigen$turbo.updateSurroundingRedstone(world, pos, state, fromPos);
+    }
+}
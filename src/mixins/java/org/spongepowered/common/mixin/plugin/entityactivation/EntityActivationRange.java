@@ -0,0 +1,427 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LightningBolt;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.animal.Sheep;
+import net.minecraft.world.entity.boss.EnderDragonPart;
+import net.minecraft.world.entity.boss.enderdragon.EndCrystal;
+import net.minecraft.world.entity.boss.enderdragon.EnderDragon;
+import net.minecraft.world.entity.boss.wither.WitherBoss;
+import net.minecraft.world.entity.item.FallingBlockEntity;
+import net.minecraft.world.entity.item.PrimedTnt;
+import net.minecraft.world.entity.monster.Creeper;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.monster.RangedAttackMob;
+import net.minecraft.world.entity.npc.AbstractVillager;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.projectile.AbstractArrow;
+import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
+import net.minecraft.world.entity.projectile.FireworkRocketEntity;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.entity.projectile.ThrowableProjectile;
+import net.minecraft.world.entity.vehicle.MinecartTNT;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.entity.EntityAccessor;
+import org.spongepowered.common.accessor.world.entity.projectile.AbstractArrowAccessor;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.entity.PlatformEntityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EntityActivationRange {
+
+    private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
+            .put((byte) 1, "monster")
+            .put((byte) 2, "creature")
+            .put((byte) 3, "aquatic")
+            .put((byte) 4, "ambient")
+            .put((byte) 5, "misc")
+            .build();
+
+    // Entities are also constructed off the main thread, e.g. during world generation
+    private static final Map<Byte, Integer> maxActivationRanges = new ConcurrentHashMap<>();
+    private static final Set<EntityType<?>> initializedTypes = ConcurrentHashMap.newKeySet();
+
+    private EntityActivationRange() {
+    }
+
+    /**
+     * Initializes an entities type on construction to specify what group this
+     * entity is in for activation ranges.
+     *
+     * @param entity Entity to get type for
+     * @return group id
+     */
+    public static byte initializeEntityActivationType(final Entity entity) {
+        final MobCategory category = entity.getType().getCategory();
+        // account for entities that dont extend Monster, AmbientCreature, PathfinderMob
+        if (entity instanceof Enemy || entity instanceof RangedAttackMob || category == MobCategory.MONSTER) {
+            return 1; // Monster
+        } else if (category == MobCategory.CREATURE) {
+            return 2; // Creature
+        } else if (category == MobCategory.WATER_CREATURE || category == MobCategory.WATER_AMBIENT) {
+            return 3; // Aquatic
+        } else if (category == MobCategory.AMBIENT) {
+            return 4; // Ambient
+        } else {
+            return 5; // Misc
+        }
+    }
+
+    /**
+     * Initialize entity activation state.
+     *
+     * @param entity Entity to check
+     */
+    public static void initializeEntityActivationState(final Entity entity) {
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        if (((WorldBridge) entity.level).bridge$isFake()) {
+            return;
+        }
+
+        // types that should always be active
+        if (entity instanceof Player && !((PlatformEntityBridge) entity).bridge$isFakePlayer()
+            || entity instanceof ThrowableProjectile
+            || entity instanceof EnderDragon
+            || entity instanceof EnderDragonPart
+            || entity instanceof WitherBoss
+            || entity instanceof AbstractHurtingProjectile
+            || entity instanceof LightningBolt
+            || entity instanceof PrimedTnt
+            || entity instanceof EndCrystal
+            || entity instanceof FireworkRocketEntity
+            || entity instanceof FallingBlockEntity) // Always tick falling blocks
+        {
+            return;
+        }
+
+        final EntityType<?> type = entity.getType();
+        final ResourceLocation key = Registry.ENTITY_TYPE.getKey(type);
+        final byte activationType = spongeEntity.activation$getActivationType();
+        final String activationTypeName = EntityActivationRange.activationTypeMappings.get(activationType);
+        if (EntityActivationRange.initializedTypes.add(type)) {
+            final Level level = entity.level;
+            if (PhaseTracker.SERVER.onSidedThread()) {
+                EntityActivationRange.addEntityToConfig(level, key, activationType);
+            } else {
+                // The config is only written to from the main thread, until then the defaults apply
+                SpongeCommon.getServer().execute(() -> EntityActivationRange.addEntityToConfig(level, key, activationType));
+            }
+        }
+
+        final EntityActivationRangeCategory config = SpongeGameConfigs.getForWorld(entity.level).get().entityActivationRange;
+        final EntityActivationRangeCategory.ModSubCategory entityMod = config.mods.get(key.getNamespace());
+        final int defaultActivationRange = config.globalRanges.getOrDefault(activationTypeName, 32);
+        if (entityMod == null) {
+            // use default activation range
+            spongeEntity.activation$setActivationRange(defaultActivationRange);
+            spongeEntity.activation$setDefaultActivationState(defaultActivationRange <= 0);
+            return;
+        }
+        if (!entityMod.enabled) {
+            spongeEntity.activation$setDefaultActivationState(true);
+            return;
+        }
+
+        final Integer defaultModActivationRange = entityMod.defaultRanges.get(activationTypeName);
+        final Integer entityActivationRange = entityMod.entities.get(key.getPath());
+        final int activationRange;
+        if (entityActivationRange != null) {
+            activationRange = entityActivationRange;
+        } else if (defaultModActivationRange != null) {
+            activationRange = defaultModActivationRange;
+        } else {
+            activationRange = defaultActivationRange;
+        }
+        spongeEntity.activation$setActivationRange(activationRange);
+        spongeEntity.activation$setDefaultActivationState(activationRange <= 0);
+    }
+
+    /**
+     * Find what entities are in range of the players in the world and set
+     * active if in range.
+     *
+     * @param world The world to perform activation checks in
+     */
+    public static void activateEntities(final ServerLevel world) {
+        if (((WorldBridge) world).bridge$isFake()) {
+            return;
+        }
+
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        final int viewDistance = ((ServerWorldInfoBridge) world.getLevelData()).bridge$viewDistance()
+                .orElseGet(() -> world.getServer().getPlayerList().getViewDistance());
+        maxRange = Math.min((viewDistance << 4) - 8, maxRange);
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        for (final Player player : world.players()) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+            if (maxRange <= 0) {
+                continue;
+            }
+
+            final AABB playerBB = player.getBoundingBox();
+            final int minChunkX = Mth.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = Mth.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = Mth.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = Mth.floor((playerBB.maxZ + maxRange) / 16.0D);
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if (chunk != null) {
+                        EntityActivationRange.activateChunkEntities(playerBB, chunk, currentTick);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for the activation state of all entities in this chunk.
+     *
+     * @param playerBB The bounding box of the player activating entities
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     */
+    private static void activateChunkEntities(final AABB playerBB, final LevelChunk chunk, final long currentTick) {
+        for (final ClassInstanceMultiMap<Entity> section : chunk.getEntitySections()) {
+            for (final Entity entity : section) {
+                final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+                if (currentTick <= spongeEntity.activation$getActivatedTick()) {
+                    continue;
+                }
+                if (spongeEntity.activation$getDefaultActivationState()) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                    continue;
+                }
+
+                // check if activation cache needs to be updated
+                if (spongeEntity.activation$requiresActivationCacheRefresh()) {
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.activation$requiresActivationCacheRefresh(false);
+                }
+
+                if (EntityActivationRange.isWithinRange(playerBB, entity.getBoundingBox(), spongeEntity.activation$getActivationRange())) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given entity bounding box intersects the player
+     * bounding box grown by the given range, without allocating a grown copy.
+     */
+    private static boolean isWithinRange(final AABB playerBB, final AABB entityBB, final int range) {
+        return entityBB.maxX > playerBB.minX - range && entityBB.minX < playerBB.maxX + range
+            && entityBB.maxY > playerBB.minY - 256 && entityBB.minY < playerBB.maxY + 256
+            && entityBB.maxZ > playerBB.minZ - range && entityBB.minZ < playerBB.maxZ + range;
+    }
+
+    /**
+     * If an entity is not in range, do some more checks to see if we should
+     * give it a shot.
+     *
+     * @param entity Entity to check
+     * @return Whether entity should still be maintained active
+     */
+    public static boolean checkEntityImmunities(final Entity entity) {
+        // quick checks.
+        if (((EntityAccessor) entity).accessor$remainingFireTicks() > 0) {
+            return true;
+        }
+        if (entity instanceof AbstractArrow) {
+            if (!((AbstractArrowAccessor) entity).accessor$inGround()) {
+                return true;
+            }
+        } else if (entity instanceof Projectile) {
+            if (!entity.isOnGround()) {
+                return true;
+            }
+        } else if (!entity.getPassengers().isEmpty() || entity.getVehicle() != null) {
+            return true;
+        }
+        if (entity instanceof MinecartTNT && ((MinecartTNT) entity).isPrimed()) {
+            return true;
+        }
+        // special cases.
+        if (entity instanceof LivingEntity) {
+            final LivingEntity living = (LivingEntity) entity;
+            if (living.hurtTime > 0 || !living.getActiveEffects().isEmpty()) {
+                return true;
+            }
+            if (entity instanceof Mob && (living.getLastHurtByMob() != null || ((Mob) entity).getTarget() != null)) {
+                return true;
+            }
+            if (entity instanceof AbstractVillager && ((AbstractVillager) entity).isTrading()) {
+                return true;
+            }
+            if (entity instanceof Animal) {
+                final Animal animal = (Animal) entity;
+                if (animal.isBaby() || animal.isInLove()) {
+                    return true;
+                }
+                if (entity instanceof Sheep && ((Sheep) entity).isSheared()) {
+                    return true;
+                }
+            }
+            if (entity instanceof Creeper && ((Creeper) entity).getSwellDir() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the entity is active for this tick.
+     *
+     * @param entity The entity to check for activity
+     * @return Whether the given entity should be active
+     */
+    public static boolean checkIfActive(final Entity entity) {
+        // Never safe to skip fireworks or entities not yet added to chunk
+        if (entity instanceof Player || entity.level.isClientSide || !entity.inChunk || entity instanceof FireworkRocketEntity) {
+            return true;
+        }
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
+        if (activeChunk == null) {
+            // Should never happen but just in case for mods, always tick
+            return true;
+        }
+
+        // If in forced chunk
+        if (activeChunk.bridge$isPersistedChunk()) {
+            return true;
+        }
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        boolean isActive = spongeEntity.activation$getActivatedTick() >= currentTick || spongeEntity.activation$getDefaultActivationState();
+
+        // Should this entity tick?
+        if (!isActive) {
+            if ((currentTick - spongeEntity.activation$getActivatedTick() - 1) % 20 == 0) {
+                // Check immunities every 20 ticks.
+                if (EntityActivationRange.checkEntityImmunities(entity)) {
+                    // Triggered some sort of immunity, give 20 full ticks before we check again.
+                    spongeEntity.activation$setActivatedTick(currentTick + 20);
+                }
+                isActive = true;
+            }
+            // Add a little performance juice to active entities. Skip 1/4 if not immune.
+        } else if (!spongeEntity.activation$getDefaultActivationState() && entity.tickCount % 4 == 0
+                && !EntityActivationRange.checkEntityImmunities(entity)) {
+            isActive = false;
+        }
+
+        return isActive;
+    }
+
+    public static void addEntityToConfig(final Level world, final ResourceLocation key, final byte activationType) {
+        Objects.requireNonNull(world, "world");
+        Objects.requireNonNull(key, "key");
+
+        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = SpongeGameConfigs.getForWorld(world);
+        final EntityActivationRangeCategory activationCategory = worldConfigAdapter.get().entityActivationRange;
+        final boolean autoPopulate = activationCategory.autoPopulate;
+        final String entityType = EntityActivationRange.activationTypeMappings.get(activationType);
+        final String entityModId = key.getNamespace();
+        final String entityId = key.getPath();
+        final int defaultActivationRange = activationCategory.globalRanges.getOrDefault(entityType, 32);
+        int activationRange = defaultActivationRange;
+        boolean requiresSave = false;
+
+        if (autoPopulate && !activationCategory.mods.containsKey(entityModId)) {
+            requiresSave = true;
+        }
+        final EntityActivationRangeCategory.ModSubCategory entityMod = worldConfigAdapter.getOrCreateValue(
+                c -> c.entityActivationRange.mods.get(entityModId),
+                c -> c.entityActivationRange.mods.put(entityModId, new EntityActivationRangeCategory.ModSubCategory()),
+                autoPopulate);
+        if (entityMod != null) {
+            final Integer modActivationRange = entityMod.defaultRanges.get(entityType);
+            if (modActivationRange != null && modActivationRange > activationRange) {
+                activationRange = modActivationRange;
+            }
+
+            final int modDefault = modActivationRange == null ? defaultActivationRange : modActivationRange;
+            if (autoPopulate && !entityMod.entities.containsKey(entityId)) {
+                requiresSave = true;
+            }
+            final Integer entityActivationRange = worldConfigAdapter.getOrCreateValue(
+                    c -> {
+                        final EntityActivationRangeCategory.ModSubCategory mod = c.entityActivationRange.mods.get(entityModId);
+                        return mod == null ? null : mod.entities.get(entityId);
+                    },
+                    c -> c.entityActivationRange.mods.computeIfAbsent(entityModId, k -> new EntityActivationRangeCategory.ModSubCategory())
+                            .entities.put(entityId, modDefault),
+                    autoPopulate);
+            if (entityActivationRange != null && entityActivationRange > activationRange) {
+                activationRange = entityActivationRange;
+            }
+        }
+
+        // check max ranges
+        EntityActivationRange.maxActivationRanges.merge(activationType, activationRange, Math::max);
+
+        if (requiresSave) {
+            worldConfigAdapter.save();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickableBlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.BlockEntityActivationCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+
+public final class TileEntityActivation {
+
+    private TileEntityActivation() {
+    }
+
+    /**
+     * Initialize tileentity activation state.
+     *
+     * @param tileEntity The tileentity to check
+     */
+    public static void initializeTileEntityActivationState(final BlockEntity tileEntity) {
+        final Level world = tileEntity.getLevel();
+        if (world == null || world.isClientSide || !(tileEntity instanceof TickableBlockEntity)) {
+            return;
+        }
+
+        final BlockEntityActivationCategory tileEntityActCat = SpongeGameConfigs.getForWorld(world).get().blockEntityActivation;
+        final ResourceLocation key = Registry.BLOCK_ENTITY_TYPE.getKey(tileEntity.getType());
+        if (key == null) {
+            return;
+        }
+
+        final ActivationCapabilityBridge spongeTileEntity = (ActivationCapabilityBridge) tileEntity;
+        final BlockEntityActivationCategory.MobSubCategory tileEntityActModCat = tileEntityActCat.mods.get(key.getNamespace());
+        int activationRange = tileEntityActCat.defaultRange;
+        int tickRate = tileEntityActCat.defaultTickRate;
+        if (tileEntityActModCat != null) {
+            if (!tileEntityActModCat.enabled) {
+                spongeTileEntity.activation$setActivationRange(0);
+                spongeTileEntity.activation$setSpongeTickRate(1);
+                spongeTileEntity.activation$setDefaultActivationState(true);
+                return;
+            }
+
+            final Integer tileEntityActivationRange = tileEntityActModCat.ranges.get(key.getPath());
+            if (tileEntityActivationRange != null) {
+                activationRange = tileEntityActivationRange;
+            } else if (tileEntityActModCat.defaultRange != null) {
+                activationRange = tileEntityActModCat.defaultRange;
+            }
+
+            final Integer tileEntityTickRate = tileEntityActModCat.tickRates.get(key.getPath());
+            if (tileEntityTickRate != null) {
+                tickRate = tileEntityTickRate;
+            } else if (tileEntityActModCat.defaultTickRate != null) {
+                tickRate = tileEntityActModCat.defaultTickRate;
+            }
+        }
+
+        spongeTileEntity.activation$setActivationRange(activationRange);
+        spongeTileEntity.activation$setSpongeTickRate(tickRate);
+        spongeTileEntity.activation$setDefaultActivationState(activationRange <= 0 && tickRate > 0);
+    }
+
+    /**
+     * Find what tileentities are in range of the players in the world and set
+     * active if in range.
+     *
+     * @param world The world to perform activation checks in
+     */
+    public static void activateTileEntities(final ServerLevel world) {
+        if (((WorldBridge) world).bridge$isFake() || world.players().isEmpty()) {
+            return;
+        }
+
+        final BlockEntityActivationCategory config = SpongeGameConfigs.getForWorld(world).get().blockEntityActivation;
+        int maxRange = config.defaultRange;
+        for (final BlockEntityActivationCategory.MobSubCategory mod : config.mods.values()) {
+            if (mod.defaultRange != null && mod.defaultRange > maxRange) {
+                maxRange = mod.defaultRange;
+            }
+            for (final Integer range : mod.ranges.values()) {
+                if (range > maxRange) {
+                    maxRange = range;
+                }
+            }
+        }
+        final int viewDistance = ((ServerWorldInfoBridge) world.getLevelData()).bridge$viewDistance()
+                .orElseGet(() -> world.getServer().getPlayerList().getViewDistance());
+        final int chunkRadius = Math.min(viewDistance, (maxRange >> 4) + 1);
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        for (final Player player : world.players()) {
+            final int playerChunkX = player.xChunk;
+            final int playerChunkZ = player.zChunk;
+            for (int chunkX = playerChunkX - chunkRadius; chunkX <= playerChunkX + chunkRadius; ++chunkX) {
+                for (int chunkZ = playerChunkZ - chunkRadius; chunkZ <= playerChunkZ + chunkRadius; ++chunkZ) {
+                    final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if (chunk == null || ((ChunkBridge) chunk).bridge$isPersistedChunk()) {
+                        continue;
+                    }
+                    TileEntityActivation.activateChunkTileEntities(player, chunk, currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for the activation state of all tileentities in this chunk.
+     *
+     * @param player The player activating tileentities
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     */
+    private static void activateChunkTileEntities(final Player player, final LevelChunk chunk, final long currentTick) {
+        for (final BlockEntity tileEntity : chunk.getBlockEntities().values()) {
+            if (!(tileEntity instanceof TickableBlockEntity)) {
+                continue;
+            }
+            final ActivationCapabilityBridge spongeTileEntity = (ActivationCapabilityBridge) tileEntity;
+            if (spongeTileEntity.activation$getSpongeTickRate() <= 0 || currentTick <= spongeTileEntity.activation$getActivatedTick()) {
+                // never activated, or already activated
+                continue;
+            }
+            if (spongeTileEntity.activation$getDefaultActivationState()) {
+                spongeTileEntity.activation$setActivatedTick(currentTick);
+                continue;
+            }
+
+            // check if activation cache needs to be updated
+            if (spongeTileEntity.activation$requiresActivationCacheRefresh()) {
+                TileEntityActivation.initializeTileEntityActivationState(tileEntity);
+                spongeTileEntity.activation$requiresActivationCacheRefresh(false);
+            }
+
+            final int activationRange = spongeTileEntity.activation$getActivationRange();
+            final BlockPos pos = tileEntity.getBlockPos();
+            if (player.distanceToSqr(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D) <= (double) activationRange * activationRange) {
+                spongeTileEntity.activation$setActivatedTick(currentTick);
+            }
+        }
+    }
+
+    /**
+     * Checks if the tileentity is active for this tick.
+     *
+     * @param tileEntity The tileentity to check for activity
+     * @return Whether the given tileentity should be active
+     */
+    public static boolean checkIfActive(final BlockEntity tileEntity) {
+        final Level world = tileEntity.getLevel();
+        if (world == null || world.isClientSide || !(tileEntity instanceof TickableBlockEntity)) {
+            return true;
+        }
+
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) tileEntity).bridge$getActiveChunk();
+        if (activeChunk == null) {
+            // Should never happen but just in case for mods, always tick
+            return true;
+        }
+
+        final ActivationCapabilityBridge spongeTileEntity = (ActivationCapabilityBridge) tileEntity;
+        final int tickRate = spongeTileEntity.activation$getSpongeTickRate();
+        if (tickRate <= 0) {
+            return false;
+        }
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        final boolean isActive = activeChunk.bridge$isPersistedChunk()
+                || spongeTileEntity.activation$getActivatedTick() >= currentTick
+                || spongeTileEntity.activation$getDefaultActivationState();
+
+        // Should this tileentity tick? Also throttle to the configured tick rate, offset by
+        // position so that throttled tileentities don't all tick on the same tick.
+        return isActive && (tickRate == 1 || Math.floorMod(world.getGameTime() + tileEntity.getBlockPos().asLong(), (long) tickRate) == 0L);
+    }
+
+    public static void addTileEntityToConfig(final Level world, final BlockEntity tileEntity) {
+        final InheritableConfigHandle<WorldConfig> worldConfigAdapter = SpongeGameConfigs.getForWorld(world);
+        final BlockEntityActivationCategory activationCategory = worldConfigAdapter.get().blockEntityActivation;
+        if (!activationCategory.autoPopulate) {
+            return;
+        }
+        final ResourceLocation key = Registry.BLOCK_ENTITY_TYPE.getKey(tileEntity.getType());
+        if (key == null) {
+            return;
+        }
+
+        final String tileModId = key.getNamespace();
+        final String tileId = key.getPath();
+        final BlockEntityActivationCategory.MobSubCategory tileEntityMod = activationCategory.mods.get(tileModId);
+        if (tileEntityMod != null && tileEntityMod.ranges.containsKey(tileId) && tileEntityMod.tickRates.containsKey(tileId)) {
+            return;
+        }
+
+        final int modDefaultRange = tileEntityMod == null || tileEntityMod.defaultRange == null
+                ? activationCategory.defaultRange : tileEntityMod.defaultRange;
+        final int modDefaultTickRate = tileEntityMod == null || tileEntityMod.defaultTickRate == null
+                ? activationCategory.defaultTickRate : tileEntityMod.defaultTickRate;
+        worldConfigAdapter.getOrCreateValue(c -> null, c -> {
+            final BlockEntityActivationCategory.MobSubCategory mod =
+                    c.blockEntityActivation.mods.computeIfAbsent(tileModId, k -> new BlockEntityActivationCategory.MobSubCategory());
+            mod.ranges.putIfAbsent(tileId, modDefaultRange);
+            mod.tickRates.putIfAbsent(tileId, modDefaultTickRate);
+        }, true);
+        worldConfigAdapter.save();
+    }
+}
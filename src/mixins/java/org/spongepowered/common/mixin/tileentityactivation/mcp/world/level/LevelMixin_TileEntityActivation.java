@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.tileentityactivation.mcp.world.level;
+
+import co.aikar.timings.Timing;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+
+@Mixin(Level.class)
+public abstract class LevelMixin_TileEntityActivation {
+
+    // @formatter:off
+    @Shadow @Final public boolean isClientSide;
+    // @formatter:on
+
+    @Inject(method = "tickBlockEntities", at = @At("HEAD"))
+    private void tileEntityActivation$activateTileEntities(final CallbackInfo ci) {
+        if (this.isClientSide) {
+            return;
+        }
+        try (final Timing timing = ((ServerWorldBridge) this).bridge$getTimingsHandler().tileEntityActivation.startTiming()) {
+            TileEntityActivation.activateTileEntities((ServerLevel) (Object) this);
+        }
+    }
+
+    @Redirect(method = "tickBlockEntities", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/entity/BlockEntity;hasLevel()Z"))
+    private boolean tileEntityActivation$skipInactiveTileEntities(final BlockEntity tileEntity) {
+        if (!tileEntity.hasLevel()) {
+            return false;
+        }
+        if (!TileEntityActivation.checkIfActive(tileEntity)) {
+            ((ActivationCapabilityBridge) tileEntity).activation$incrementSpongeTicksExisted();
+            ((ActivationCapabilityBridge) tileEntity).activation$inactiveTick();
+            return false;
+        }
+        return true;
+    }
+}
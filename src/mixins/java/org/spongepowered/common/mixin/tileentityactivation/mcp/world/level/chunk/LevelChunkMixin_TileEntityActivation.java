@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.tileentityactivation.mcp.world.level.chunk;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickableBlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+
+@Mixin(LevelChunk.class)
+public abstract class LevelChunkMixin_TileEntityActivation {
+
+    // @formatter:off
+    @Shadow @Final private Level level;
+    // @formatter:on
+
+    @Inject(method = "setBlockEntity(Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/entity/BlockEntity;)V", at = @At("RETURN"))
+    private void tileEntityActivation$onAddTileEntityActivateCheck(final BlockPos pos, final BlockEntity tileEntity, final CallbackInfo ci) {
+        if (tileEntity.getLevel() == null || !(tileEntity instanceof TickableBlockEntity)) {
+            return;
+        }
+        if (this.level.isClientSide || ((WorldBridge) this.level).bridge$isFake() || !((ServerWorldInfoBridge) this.level.getLevelData()).bridge$valid()) {
+            return;
+        }
+
+        if (((ChunkBridge) this).bridge$isPersistedChunk()) {
+            // always activate TE's in persisted chunks
+            ((ActivationCapabilityBridge) tileEntity).activation$setDefaultActivationState(true);
+            return;
+        }
+        TileEntityActivation.addTileEntityToConfig(this.level, tileEntity);
+        TileEntityActivation.initializeTileEntityActivationState(tileEntity);
+    }
+}
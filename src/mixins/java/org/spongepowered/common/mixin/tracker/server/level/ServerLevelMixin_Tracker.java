@@ -59,7 +59,6 @@
 import org.spongepowered.common.bridge.world.TrackedNextTickEntryBridge;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
-import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.TrackedChunkBridge;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
@@ -73,24 +72,16 @@
 import org.spongepowered.common.event.tracking.context.transaction.ChangeBlock;
 import org.spongepowered.common.event.tracking.context.transaction.GameTransaction;
 import org.spongepowered.common.event.tracking.context.transaction.RemoveTileEntity;
+import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToLoadedListInWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToTickableListEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.AddTileEntityToWorldWhileProcessingEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.CheckBlockPostPlacementIsSameEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.EffectResult;
-import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyClientEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.NotifyNeighborSideEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.PerformBlockDropsFromDestruction;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveProposedTileEntitiesDuringSetIfWorldProcessingEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveTileEntityFromChunkEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.RemoveTileEntityFromWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.ReplaceTileEntityInWorldEffect;
 import org.spongepowered.common.event.tracking.context.transaction.effect.TileOnLoadDuringAddToWorldEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateConnectingBlocksEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateLightSideEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.UpdateWorldRendererEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.WorldBlockChangeCompleteEffect;
-import org.spongepowered.common.event.tracking.context.transaction.effect.WorldDestroyBlockLevelEffect;
+import org.spongepowered.common.event.tracking.context.transaction.pipeline.BlockChangePipelines;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.ChunkPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.PipelineCursor;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.TileEntityPipeline;
@@ -108,7 +99,6 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
-import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -122,6 +112,7 @@
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.level.BlockEventData;
 import net.minecraft.world.level.Explosion;
 import net.minecraft.world.level.TickNextTickData;
@@ -460,10 +451,12 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         final net.minecraft.world.level.block.state.BlockState currentState = chunk.getBlockState(pos);
 
 
-        return Optional.of(this.bridge$makePipeline(pos, currentState, newState, chunk, spongeFlag, Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT));
+        final ChunkPipeline chunkPipeline = this.bridge$makeChunkPipeline(pos, currentState, newState, chunk, spongeFlag,
+            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT);
+        return Optional.of(BlockChangePipelines.forFlag(spongeFlag).blockChange().builder(chunkPipeline));
     }
 
-    private WorldPipeline.Builder bridge$makePipeline(
+    private ChunkPipeline bridge$makeChunkPipeline(
         final BlockPos pos,
         final BlockState currentState,
         final BlockState newState,
@@ -472,23 +465,7 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         final int limit
     ) {
         final TrackedChunkBridge mixinChunk = (TrackedChunkBridge) chunk;
-
-        // Then build and use the BlockPipeline
-        final ChunkPipeline chunkPipeline = mixinChunk.bridge$createChunkPipeline(pos, newState, currentState, spongeFlag, limit);
-        final WorldPipeline.Builder worldPipelineBuilder = WorldPipeline.builder(chunkPipeline);
-        worldPipelineBuilder.addEffect((pipeline, oldState, newState1, flag1, cursorLimit) -> {
-            if (oldState == null) {
-                return EffectResult.NULL_RETURN;
-            }
-            return EffectResult.NULL_PASS;
-        })
-            .addEffect(UpdateLightSideEffect.getInstance())
-            .addEffect(CheckBlockPostPlacementIsSameEffect.getInstance())
-            .addEffect(UpdateWorldRendererEffect.getInstance())
-            .addEffect(NotifyClientEffect.getInstance())
-            .addEffect(NotifyNeighborSideEffect.getInstance())
-            .addEffect(UpdateConnectingBlocksEffect.getInstance());
-        return worldPipelineBuilder;
+        return mixinChunk.bridge$createChunkPipeline(pos, newState, currentState, spongeFlag, limit);
     }
 
     /**
@@ -513,6 +490,16 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
         if (instance.getSidedThread() != PhaseTracker.SERVER.getSidedThread() && instance != PhaseTracker.SERVER) {
             throw new UnsupportedOperationException("Cannot perform a tracked Block Change on a ServerWorld while not on the main thread!");
         }
+        // Sponge - Nothing will see the transaction, so go straight to the vanilla chunk write
+        if (this.tracker$canSkipBlockCapture(instance.getPhaseContext(), flags)) {
+            final TrackedChunkBridge trackedChunk = (TrackedChunkBridge) this.shadow$getChunkAt(pos);
+            final boolean wasUntracked = trackedChunk.bridge$setUntrackedWrites(true);
+            try {
+                return super.setBlock(pos, newState, flags, limit);
+            } finally {
+                trackedChunk.bridge$setUntrackedWrites(wasUntracked);
+            }
+        }
         final SpongeBlockChangeFlag spongeFlag = BlockChangeFlagManager.fromNativeInt(flags);
 
         final LevelChunk chunk = this.shadow$getChunkAt(pos);
@@ -520,9 +507,8 @@ public boolean setBlock(final BlockPos pos, final net.minecraft.world.level.bloc
             return false;
         }
         final net.minecraft.world.level.block.state.BlockState currentState = chunk.getBlockState(pos);
-        final WorldPipeline pipeline = this.bridge$makePipeline(pos, currentState, newState, chunk, spongeFlag, limit)
-            .addEffect(WorldBlockChangeCompleteEffect.getInstance())
-            .build();
+        final ChunkPipeline chunkPipeline = this.bridge$makeChunkPipeline(pos, currentState, newState, chunk, spongeFlag, limit);
+        final WorldPipeline pipeline = BlockChangePipelines.forFlag(spongeFlag).setBlock().create(chunkPipeline);
 
         return pipeline.processEffects(instance.getPhaseContext(), currentState, newState, pos, null, spongeFlag, limit);
     }
@@ -541,6 +527,10 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             if (instance.getSidedThread() != PhaseTracker.SERVER.getSidedThread() && instance != PhaseTracker.SERVER) {
                 throw new UnsupportedOperationException("Cannot perform a tracked Block Change on a ServerWorld while not on the main thread!");
             }
+            // Vanilla routes the removal through setBlock, which takes the untracked path as well
+            if (this.tracker$canSkipBlockCapture(instance.getPhaseContext(), 3)) {
+                return super.destroyBlock(pos, doDrops, p_241212_3_, limit);
+            }
             final FluidState fluidstate = this.shadow$getFluidState(pos);
             final BlockState emptyBlock = fluidstate.createLegacyBlock();
             final SpongeBlockChangeFlag spongeFlag = BlockChangeFlagManager.fromNativeInt(3);
@@ -549,21 +539,31 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             if (chunk.isEmpty()) {
                 return false;
             }
-            final WorldPipeline.Builder pipelineBuilder = this.bridge$makePipeline(pos, currentState, emptyBlock, chunk, spongeFlag, limit)
-                .addEffect(WorldDestroyBlockLevelEffect.getInstance());
-
-            if (doDrops) {
-                pipelineBuilder.addEffect(PerformBlockDropsFromDestruction.getInstance());
-            }
-
-            final WorldPipeline pipeline = pipelineBuilder
-                .addEffect(WorldBlockChangeCompleteEffect.getInstance())
-                .build();
+            final ChunkPipeline chunkPipeline = this.bridge$makeChunkPipeline(pos, currentState, emptyBlock, chunk, spongeFlag, limit);
+            final WorldPipeline pipeline = BlockChangePipelines.forFlag(spongeFlag).destroyBlock(doDrops).create(chunkPipeline);
 
             return pipeline.processEffects(instance.getPhaseContext(), currentState, emptyBlock, pos, p_241212_3_, spongeFlag, limit);
         }
     }
 
+    /**
+     * Block changes only need to be captured when something may observe the
+     * resulting transactions. Without any {@link org.spongepowered.api.event.block.ChangeBlockEvent}
+     * listeners, and with a phase that doesn't rely on the captures itself, the
+     * change can be applied by vanilla as is. Sponge specific flags are not
+     * understood by vanilla, so those changes always go through the pipeline.
+     * Removing a block may still spawn entities (drops, or the contents of a
+     * replaced container), and those events take the block change as their
+     * cause, so the capture is kept whenever spawns or drops are listened to.
+     */
+    private boolean tracker$canSkipBlockCapture(final PhaseContext<@NonNull ?> context, final int flags) {
+        return !ShouldFire.CHANGE_BLOCK_EVENT
+            && !ShouldFire.SPAWN_ENTITY_EVENT
+            && !ShouldFire.DROP_ITEM_EVENT
+            && (flags & ~(Constants.BlockChangeFlags.PHYSICS_MASK - 1)) == 0
+            && !context.requiresBlockCapturing();
+    }
+
     @Override
     public SpongeBlockSnapshot bridge$createSnapshot(final net.minecraft.world.level.block.state.BlockState state, final BlockPos pos,
         final BlockChangeFlag updateFlag
@@ -577,24 +577,18 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         if (chunk == null) {
             return builder.flag(updateFlag).build();
         }
-        final Optional<UUID> creator = ((ChunkBridge) chunk).bridge$getBlockCreatorUUID(pos);
-        final Optional<UUID> notifier = ((ChunkBridge) chunk).bridge$getBlockNotifierUUID(pos);
-        creator.ifPresent(builder::creator);
-        notifier.ifPresent(builder::notifier);
-        final boolean hasTileEntity = ((BlockStateBridge) state).bridge$hasTileEntity();
-        final net.minecraft.world.level.block.entity.BlockEntity tileEntity = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
-        if (hasTileEntity || tileEntity != null) {
-            // We MUST only check to see if a TE exists to avoid creating a new one.
-            if (tileEntity != null) {
-                // TODO - custom data.
-                final CompoundTag nbt = new CompoundTag();
-                // Some mods like OpenComputers assert if attempting to save robot while moving
-                try {
-                    tileEntity.save(nbt);
-                    builder.addUnsafeCompound(nbt);
-                } catch (final Throwable t) {
-                    // ignore
-                }
+        // Sponge - Creator and notifier are not looked up here, SpongeBlockSnapshot doesn't carry them
+        // We MUST only check to see if a TE exists to avoid creating a new one.
+        final net.minecraft.world.level.block.entity.@Nullable BlockEntity tileEntity = chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        if (tileEntity != null) {
+            // TODO - custom data.
+            final CompoundTag nbt = new CompoundTag();
+            // Some mods like OpenComputers assert if attempting to save robot while moving
+            try {
+                tileEntity.save(nbt);
+                builder.addUnsafeCompound(nbt);
+            } catch (final Throwable t) {
+                SpongeCommon.getLogger().debug("Could not save block entity {} at {} for a snapshot", tileEntity.getType(), pos, t);
             }
         }
         builder.flag(updateFlag);
@@ -822,7 +816,15 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
         final PhaseContext<@NonNull ?> current = tracker.getPhaseContext();
 
         if (current.allowsBulkEntityCaptures()) {
-            current.getTransactor().logEntitySpawn(current, this, entityIn);
+            final TransactionalCaptureSupplier transactor = current.getTransactor();
+            if (pre.isCancelled() || !(entityIn instanceof ItemEntity)) {
+                transactor.logEntitySpawn(current, this, entityIn);
+            } else if (transactor.tryMergeCapturedItemDrop((ServerLevel) (Object) this, (ItemEntity) entityIn)) {
+                // Folded into an earlier drop that passed its own pre event, this one is never added to the world
+                cir.setReturnValue(true);
+            } else {
+                transactor.logItemDropSpawn(current, this, (ItemEntity) entityIn);
+            }
         }
 
     }
@@ -86,12 +86,13 @@ public abstract class LevelChunkMixin_Tracker implements TrackedChunkBridge {
     @Shadow public abstract BlockState getBlockState(BlockPos pos);
     // @formatter:on
     private @MonotonicNonNull PhaseContext<@NonNull ?> tracker$postProcessContext = null;
+    private boolean tracker$untrackedWrites = false;
 
     @Inject(method = "setBlockState", at = @At("HEAD"), cancellable = true)
     private void tracker$sanityCheckServerWorldSetBlockState(final BlockPos pos, final BlockState state, final boolean isMoving,
         final CallbackInfoReturnable<BlockState> cir
     ) {
-        if (!((WorldBridge) this.level).bridge$isFake()) {
+        if (!this.tracker$untrackedWrites && !((WorldBridge) this.level).bridge$isFake()) {
             new PrettyPrinter(80).add("Illegal Direct Chunk Access")
                 .hr()
                 .add(new IllegalAccessException("No one should be accessing Chunk.setBlock in a ServerWorld's environment"))
@@ -178,6 +179,13 @@ public abstract class LevelChunkMixin_Tracker implements TrackedChunkBridge {
         return builder.build();
     }
 
+    @Override
+    public boolean bridge$setUntrackedWrites(final boolean untracked) {
+        final boolean previous = this.tracker$untrackedWrites;
+        this.tracker$untrackedWrites = untracked;
+        return previous;
+    }
+
     @Inject(method = "addEntity", at = @At("RETURN"))
     private void tracker$SetActiveChunkOnEntityAdd(final Entity entityIn, final CallbackInfo ci) {
         ((ActiveChunkReferantBridge) entityIn).bridge$setActiveChunk(this);
@@ -0,0 +1,305 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.inject.Guice;
+import net.minecraft.nbt.ByteTag;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.StringTag;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.registry.FactoryProvider;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.common.data.SpongeDataManager;
+import org.spongepowered.common.registry.SpongeRegistryType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+
+public class NBTStreamsTest {
+
+    @BeforeAll
+    static void installGame() {
+        // Data containers are created through the data manager, and the
+        // registry types it looks up need their factories
+        final SpongeDataManager[] dataManager = new SpongeDataManager[1];
+        final RegistryType.Factory registryTypeFactory = new SpongeRegistryType.FactoryImpl();
+        final ResourceKey.Factory resourceKeyFactory = NBTStreamsTest.stub(ResourceKey.Factory.class, (method, args) -> {
+            if (method.equals("of")) {
+                return NBTStreamsTest.resourceKey((String) args[0], (String) args[1]);
+            }
+            return null;
+        });
+        final FactoryProvider factoryProvider = NBTStreamsTest.stub(FactoryProvider.class, (method, args) -> {
+            if (method.equals("provide")) {
+                return args[0] == RegistryType.Factory.class ? registryTypeFactory : args[0] == ResourceKey.Factory.class ? resourceKeyFactory : null;
+            }
+            return null;
+        });
+        final Game game = NBTStreamsTest.stub(Game.class, (method, args) -> {
+            if (method.equals("getFactoryProvider")) {
+                return factoryProvider;
+            } else if (method.equals("getDataManager")) {
+                return dataManager[0];
+            }
+            return null;
+        });
+        dataManager[0] = Guice.createInjector(binder -> {
+            binder.bind(Game.class).toInstance(game);
+            binder.requestStaticInjection(Sponge.class);
+        }).getInstance(SpongeDataManager.class);
+    }
+
+    private static CompoundTag allTypes() {
+        final CompoundTag compound = new CompoundTag();
+        compound.putByte("byte", (byte) -3);
+        compound.putShort("short", (short) 1234);
+        compound.putInt("int", Integer.MIN_VALUE);
+        compound.putLong("long", Long.MAX_VALUE);
+        compound.putFloat("float", 0.25F);
+        compound.putDouble("double", -1.5D);
+        compound.putString("string", "Sponge \u00e9\u6f22");
+        compound.putBoolean("flag" + NBTTranslator.BOOLEAN_IDENTIFIER, true);
+        compound.putByteArray("bytes", new byte[] {1, -2, 3});
+        compound.putIntArray("ints", new int[] {Integer.MAX_VALUE, 0, -1});
+        compound.putLongArray("longs", new long[] {Long.MIN_VALUE, 42L});
+        compound.putIntArray("emptyInts", new int[0]);
+        compound.putLongArray("emptyLongs", new long[0]);
+        compound.put("emptyList", new ListTag());
+
+        final ListTag strings = new ListTag();
+        strings.add(StringTag.valueOf("a"));
+        strings.add(StringTag.valueOf(""));
+        compound.put("strings", strings);
+
+        final ListTag bytes = new ListTag();
+        bytes.add(ByteTag.valueOf((byte) 1));
+        bytes.add(ByteTag.valueOf((byte) 0));
+        compound.put("byteList", bytes);
+
+        final ListTag lists = new ListTag();
+        final ListTag inner = new ListTag();
+        inner.add(IntTag.valueOf(7));
+        inner.add(IntTag.valueOf(8));
+        lists.add(inner);
+        lists.add(new ListTag());
+        compound.put("lists", lists);
+
+        final ListTag longArrays = new ListTag();
+        longArrays.add(new LongArrayTag(new long[] {1L, 2L}));
+        longArrays.add(new LongArrayTag(new long[0]));
+        compound.put("longArrays", longArrays);
+
+        final ListTag compounds = new ListTag();
+        final CompoundTag first = new CompoundTag();
+        first.putString("id", "first");
+        first.putBoolean("on" + NBTTranslator.BOOLEAN_IDENTIFIER, false);
+        compounds.add(first);
+        compounds.add(new CompoundTag());
+        compound.put("compounds", compounds);
+
+        final CompoundTag nested = new CompoundTag();
+        final CompoundTag deeper = new CompoundTag();
+        deeper.putIntArray("ints", new int[] {5});
+        deeper.put("empty", new CompoundTag());
+        nested.put("deeper", deeper);
+        nested.putDouble("value", 3.0D);
+        nested.put("lists", lists.copy());
+        compound.put("nested", nested);
+        return compound;
+    }
+
+    private static byte[] writeNbtIo(final CompoundTag compound) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            NbtIo.write(compound, output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] writeStreams(final DataContainer container) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes)) {
+            NBTStreams.write(output, container);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream input(final byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    void readMatchesTranslator() throws IOException {
+        final CompoundTag compound = NBTStreamsTest.allTypes();
+        final DataContainer read = NBTStreams.read(NBTStreamsTest.input(NBTStreamsTest.writeNbtIo(compound)));
+        final DataContainer translated = NBTTranslator.INSTANCE.translate(compound);
+
+        assertEquals(translated.getKeys(true), read.getKeys(true));
+        assertEquals(compound, NBTTranslator.INSTANCE.translate(read));
+        assertEquals(true, read.get(DataQuery.of("flag")).get());
+    }
+
+    @Test
+    void writeMatchesNbtIo() throws IOException {
+        final CompoundTag compound = NBTStreamsTest.allTypes();
+        final byte[] written = NBTStreamsTest.writeStreams(NBTTranslator.INSTANCE.translate(compound));
+
+        assertEquals(compound, NbtIo.read(NBTStreamsTest.input(written)));
+        // Same amount of data, only the order of the keys may differ
+        assertEquals(NBTStreamsTest.writeNbtIo(compound).length, written.length);
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        final CompoundTag compound = NBTStreamsTest.allTypes();
+        final DataContainer container = NBTTranslator.INSTANCE.translate(compound);
+        final DataContainer read = NBTStreams.read(NBTStreamsTest.input(NBTStreamsTest.writeStreams(container)));
+
+        assertEquals(container.getKeys(true), read.getKeys(true));
+        assertEquals(compound, NBTTranslator.INSTANCE.translate(read));
+    }
+
+    @Test
+    void emptyRoundTrip() throws IOException {
+        final CompoundTag compound = new CompoundTag();
+        final DataContainer read = NBTStreams.read(NBTStreamsTest.input(NBTStreamsTest.writeNbtIo(compound)));
+
+        assertTrue(read.isEmpty());
+        assertEquals(compound, NbtIo.read(NBTStreamsTest.input(NBTStreamsTest.writeStreams(read))));
+    }
+
+    @Test
+    void compressedMatchesNbtIo() throws IOException {
+        final CompoundTag compound = NBTStreamsTest.allTypes();
+        final ByteArrayOutputStream vanilla = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(compound, vanilla);
+        final DataContainer read = NBTStreams.readCompressed(new ByteArrayInputStream(vanilla.toByteArray()), null);
+        assertEquals(compound, NBTTranslator.INSTANCE.translate(read));
+
+        final ByteArrayOutputStream streams = new ByteArrayOutputStream();
+        NBTStreams.writeCompressed(streams, read);
+        assertEquals(compound, NbtIo.readCompressed(new ByteArrayInputStream(streams.toByteArray())));
+    }
+
+    @Test
+    void readOnlySelectedPaths() throws IOException {
+        final CompoundTag compound = NBTStreamsTest.allTypes();
+        final DataContainer read = NBTStreams.read(NBTStreamsTest.input(NBTStreamsTest.writeNbtIo(compound)),
+                Collections.singletonList(DataQuery.of("nested", "deeper")));
+
+        final CompoundTag expected = new CompoundTag();
+        final CompoundTag nested = new CompoundTag();
+        nested.put("deeper", compound.getCompound("nested").getCompound("deeper").copy());
+        expected.put("nested", nested);
+        assertEquals(expected, NBTTranslator.INSTANCE.translate(read));
+        assertFalse(read.contains(DataQuery.of("nested", "value")));
+    }
+
+    @Test
+    void rejectsTooDeepLists() throws IOException {
+        ListTag list = new ListTag();
+        for (int i = 0; i < 600; i++) {
+            final ListTag outer = new ListTag();
+            outer.add(list);
+            list = outer;
+        }
+        final CompoundTag compound = new CompoundTag();
+        compound.put("deep", list);
+        final byte[] bytes = NBTStreamsTest.writeNbtIo(compound);
+
+        assertThrows(IOException.class, () -> NBTStreams.read(NBTStreamsTest.input(bytes)));
+        assertThrows(IOException.class, () -> NBTStreams.read(NBTStreamsTest.input(bytes), Collections.singletonList(DataQuery.of("other"))));
+    }
+
+    private static ResourceKey resourceKey(final String namespace, final String value) {
+        final String formatted = namespace + ":" + value;
+        return NBTStreamsTest.stub(ResourceKey.class, (method, args) -> {
+            switch (method) {
+                case "getNamespace":
+                    return namespace;
+                case "getValue":
+                    return value;
+                case "getFormatted":
+                case "asString":
+                case "toString":
+                    return formatted;
+                case "hashCode":
+                    return formatted.hashCode();
+                case "equals":
+                    return args[0] instanceof ResourceKey && formatted.equals(((ResourceKey) args[0]).getFormatted());
+                case "compareTo":
+                    return formatted.compareTo(((ResourceKey) args[0]).getFormatted());
+                default:
+                    return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type, final Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            final Object result = answer.answer(method.getName(), args);
+            if (result != null) {
+                return result;
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName();
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "#" + method.getName());
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+
+        Object answer(String method, Object[] args);
+    }
+}
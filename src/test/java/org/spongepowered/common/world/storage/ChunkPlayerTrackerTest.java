@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.util.Constants;
+
+import java.util.UUID;
+
+public class ChunkPlayerTrackerTest {
+
+    private static final UUID FIRST = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+    private static final UUID SECOND = UUID.fromString("61699b2e-d327-4a01-9f1e-0ea8c3f06bc6");
+    private static final UUID THIRD = UUID.fromString("853c80ef-3c37-49fd-aa49-938b674adae6");
+
+    private static ChunkPlayerTracker roundTrip(final ChunkPlayerTracker tracker) {
+        final CompoundTag compound = new CompoundTag();
+        tracker.writeTo(compound);
+        final ChunkPlayerTracker read = new ChunkPlayerTracker();
+        read.readFrom(compound);
+        return read;
+    }
+
+    @Test
+    public void positionsSurviveRoundTrip() {
+        final ChunkPlayerTracker tracker = new ChunkPlayerTracker();
+        final BlockPos bottom = new BlockPos(0, 0, 0);
+        final BlockPos top = new BlockPos(15, 255, 15);
+        final BlockPos middle = new BlockPos(-7, 130, 24);
+        tracker.set(bottom, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.FIRST);
+        tracker.set(top, PlayerTracker.Type.NOTIFIER, ChunkPlayerTrackerTest.SECOND);
+        tracker.set(middle, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.SECOND);
+        tracker.set(middle, PlayerTracker.Type.NOTIFIER, ChunkPlayerTrackerTest.FIRST);
+
+        final ChunkPlayerTracker read = ChunkPlayerTrackerTest.roundTrip(tracker);
+        assertEquals(ChunkPlayerTrackerTest.FIRST, read.getCreator(bottom));
+        assertNull(read.getNotifier(bottom));
+        assertNull(read.getCreator(top));
+        assertEquals(ChunkPlayerTrackerTest.SECOND, read.getNotifier(top));
+        assertEquals(ChunkPlayerTrackerTest.SECOND, read.getCreator(middle));
+        assertEquals(ChunkPlayerTrackerTest.FIRST, read.getNotifier(middle));
+        assertNull(read.getCreator(new BlockPos(1, 0, 0)));
+    }
+
+    @Test
+    public void unusedPlayersAreNotWritten() {
+        final ChunkPlayerTracker tracker = new ChunkPlayerTracker();
+        final BlockPos replaced = new BlockPos(3, 64, 3);
+        final BlockPos cleared = new BlockPos(4, 64, 4);
+        tracker.set(replaced, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.FIRST);
+        tracker.set(cleared, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.SECOND);
+        tracker.set(replaced, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.THIRD);
+        tracker.set(cleared, PlayerTracker.Type.CREATOR, null);
+
+        final CompoundTag compound = new CompoundTag();
+        tracker.writeTo(compound);
+        assertEquals(2, compound.getLongArray(Constants.Sponge.SPONGE_PLAYER_UUID_TABLE).length);
+        assertEquals(1, compound.getLongArray(Constants.Sponge.SPONGE_BLOCK_POS_TABLE).length);
+
+        final ChunkPlayerTracker read = new ChunkPlayerTracker();
+        read.readFrom(compound);
+        assertEquals(ChunkPlayerTrackerTest.THIRD, read.getCreator(replaced));
+        assertNull(read.getCreator(cleared));
+    }
+
+    @Test
+    public void clearingAllPlayersEmptiesTheTracker() {
+        final ChunkPlayerTracker tracker = new ChunkPlayerTracker();
+        final BlockPos pos = new BlockPos(8, 8, 8);
+        tracker.set(pos, PlayerTracker.Type.CREATOR, ChunkPlayerTrackerTest.FIRST);
+        tracker.set(pos, PlayerTracker.Type.NOTIFIER, ChunkPlayerTrackerTest.SECOND);
+        tracker.set(pos, PlayerTracker.Type.CREATOR, null);
+        tracker.set(pos, PlayerTracker.Type.NOTIFIER, null);
+        assertTrue(tracker.isEmpty());
+        assertTrue(ChunkPlayerTrackerTest.roundTrip(tracker).isEmpty());
+    }
+}
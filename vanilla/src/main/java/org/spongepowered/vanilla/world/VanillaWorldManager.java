@@ -73,6 +73,7 @@
 import net.minecraft.world.level.storage.LevelStorageSource;
 import net.minecraft.world.level.storage.PrimaryLevelData;
 import net.minecraft.world.level.storage.WorldData;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
@@ -107,22 +108,20 @@
 import org.spongepowered.common.util.FutureUtil;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 import org.spongepowered.common.world.server.SpongeWorldTemplate;
+import org.spongepowered.common.world.server.WorldFiles;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.file.FileVisitResult;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -545,6 +544,21 @@ public CompletableFuture<Boolean> saveProperties(final ServerWorldProperties pro
 
     @Override
     public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final ResourceKey copyKey) {
+        return this.copyWorld(key, copyKey, null);
+    }
+
+    /**
+     * Copies a world. The files are copied on the world I/O threads. A loaded
+     * world is saved and flushed first, and its saving is paused until the
+     * returned future completes.
+     *
+     * @param key The key of the world to copy
+     * @param copyKey The key of the copy
+     * @param listener Receives the progress of the copy, in bytes
+     * @return Whether the world was copied
+     */
+    public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final ResourceKey copyKey,
+            final WorldFiles.@Nullable ProgressListener listener) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"));
         final net.minecraft.resources.ResourceKey<Level> copyRegistryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(copyKey, "copyKey"));
 
@@ -561,12 +575,14 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving;
 
         if (loadedWorld != null) {
             disableLevelSaving = loadedWorld.noSave;
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
+        } else {
+            disableLevelSaving = false;
         }
 
         final boolean isDefaultWorld = this.isDefaultWorld(key);
@@ -580,68 +596,43 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         final String copyDirectoryName = this.getDirectoryName(copyKey);
 
         final Path copyDirectory = isVanillaCopyWorld ? this.defaultWorldDirectory
-                .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
-                    // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
+                .resolve(copyDirectoryName) : this.customWorldsDirectory.resolve(copyKey.getNamespace()).resolve(copyKey.getValue());
 
-                    // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && VanillaWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
+        final Path dimensionTemplate = this.getDataPackFile(key);
+        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
 
-                    return FileVisitResult.CONTINUE;
+        final CompletableFuture<Boolean> copy = WorldFiles.copy(originalDirectory, copyDirectory, (path, attrs) -> {
+            final String fileName = path.getFileName().toString();
+            if (attrs.isDirectory()) {
+                // Silly recursion if the default world is being copied
+                if (fileName.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
+                    return false;
                 }
 
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                    final String fileName = file.getFileName().toString();
-                    // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                // Silly copying of vanilla sub worlds if the default world is being copied
+                return !isDefaultWorld || !this.isVanillaSubWorld(fileName);
+            }
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
+            // Do not copy backups (not relevant anymore)
+            return !fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) && !fileName.equals(Constants.World.LEVEL_DAT_OLD);
+        }, listener).thenRunAsync(() -> {
             try {
-                Files.deleteIfExists(copyDirectory);
-            } catch (final IOException ignore) {
+                this.copyTemplate(dimensionTemplate, copiedDimensionTemplate);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
             }
-
-            return FutureUtil.completedWithException(e);
-        }
+        }, WorldFiles.executor()).thenApply(v -> true);
 
         if (loadedWorld != null) {
-            loadedWorld.noSave = disableLevelSaving;
+            // Saving stays paused until the copy is done, on the main thread that reads it
+            return copy.whenCompleteAsync((result, throwable) -> loadedWorld.noSave = disableLevelSaving, this.server);
         }
+        return copy;
+    }
 
-        final Path dimensionTemplate = this.getDataPackFile(key);
-        final Path copiedDimensionTemplate = this.getDataPackFile(copyKey);
-
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.copy(dimensionTemplate, copiedDimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+    private void copyTemplate(final Path dimensionTemplate, final Path copiedDimensionTemplate) throws IOException {
+        Files.createDirectories(copiedDimensionTemplate.getParent());
+        Files.copy(dimensionTemplate, copiedDimensionTemplate);
 
         final JsonObject fixedObject;
         try (final InputStream stream = Files.newInputStream(copiedDimensionTemplate); final InputStreamReader reader = new InputStreamReader(stream)) {
@@ -652,23 +643,29 @@ public FileVisitResult visitFile(final Path file, final BasicFileAttributes attr
             final JsonObject spongeData = root.getAsJsonObject("#sponge");
             spongeData.remove("unique_id");
             fixedObject = root;
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
         }
 
-        if (fixedObject != null) {
-            try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
-                writer.write(fixedObject.getAsString());
-            } catch (final IOException e) {
-                FutureUtil.completedWithException(e);
-            }
+        try (final BufferedWriter writer = Files.newBufferedWriter(copiedDimensionTemplate)) {
+            writer.write(fixedObject.toString());
         }
-
-        return CompletableFuture.completedFuture(true);
     }
 
     @Override
     public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final ResourceKey movedKey) {
+        return this.moveWorld(key, movedKey, null);
+    }
+
+    /**
+     * Moves a world. The world is unloaded on the calling thread and its
+     * files are moved on the world I/O threads.
+     *
+     * @param key The key of the world to move
+     * @param movedKey The new key of the world
+     * @param listener Receives the progress of the move, in bytes
+     * @return Whether the world was moved
+     */
+    public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final ResourceKey movedKey,
+            final WorldFiles.@Nullable ProgressListener listener) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"));
 
         if (Level.OVERWORLD.equals(registryKey)) {
@@ -702,14 +699,7 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final String moveDirectoryName = this.getDirectoryName(movedKey);
 
         final Path moveDirectory = isVanillaMoveWorld ? this.defaultWorldDirectory
-                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
-
-        try {
-            Files.createDirectories(moveDirectory);
-            Files.move(originalDirectory, moveDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+                .resolve(moveDirectoryName) : this.customWorldsDirectory.resolve(movedKey.getNamespace()).resolve(movedKey.getValue());
 
         final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key
                 .getNamespace()).resolve(key.getValue() + ".conf");
@@ -717,28 +707,39 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
         final Path copiedConfigFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds")
                 .resolve(movedKey.getNamespace()).resolve(movedKey.getValue() + ".conf");
 
-        try {
-            Files.createDirectories(copiedConfigFile.getParent());
-            Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
         final Path copiedDimensionTemplate = this.getDataPackFile(movedKey);
 
-        try {
-            Files.createDirectories(copiedDimensionTemplate.getParent());
-            Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
+        return WorldFiles.move(originalDirectory, moveDirectory, listener).thenApplyAsync(v -> {
+            try {
+                if (Files.exists(configFile)) {
+                    Files.createDirectories(copiedConfigFile.getParent());
+                    Files.move(configFile, copiedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                }
 
-        return CompletableFuture.completedFuture(true);
+                Files.createDirectories(copiedDimensionTemplate.getParent());
+                Files.move(dimensionTemplate, copiedDimensionTemplate, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }, WorldFiles.executor());
     }
 
     @Override
     public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
+        return this.deleteWorld(key, null);
+    }
+
+    /**
+     * Deletes a world. The world is unloaded on the calling thread and its
+     * files are deleted on the world I/O threads.
+     *
+     * @param key The key of the world to delete
+     * @param listener Receives the progress of the deletion, in bytes
+     * @return Whether the world was deleted
+     */
+    public CompletableFuture<Boolean> deleteWorld(final ResourceKey key, final WorldFiles.@Nullable ProgressListener listener) {
         final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(key, "key"));
 
         if (Level.OVERWORLD.equals(registryKey)) {
@@ -766,33 +767,19 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
 
         final Path directory = isVanillaWorld ? this.defaultWorldDirectory.resolve(directoryName) : this.customWorldsDirectory.resolve(key.getNamespace()).resolve(key.getValue());
 
-        if (Files.exists(directory)) {
-            try {
-                for (final Path path : Files.walk(directory).sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
-                    Files.deleteIfExists(path);
-                }
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = SpongeCommon.getSpongeConfigDirectory().resolve(SpongeCommon.ECOSYSTEM_ID).resolve("worlds").resolve(key.getNamespace()).resolve(key.getValue() + ".conf");
 
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path dimensionTemplate = this.getDataPackFile(key);
 
-        try {
-            Files.deleteIfExists(dimensionTemplate);
-        } catch (final IOException e) {
-            FutureUtil.completedWithException(e);
-        }
-
-        return CompletableFuture.completedFuture(true);
+        return WorldFiles.delete(directory, listener).thenApplyAsync(v -> {
+            try {
+                Files.deleteIfExists(configFile);
+                Files.deleteIfExists(dimensionTemplate);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }, WorldFiles.executor());
     }
 
     @Override